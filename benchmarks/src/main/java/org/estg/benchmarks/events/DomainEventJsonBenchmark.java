@@ -0,0 +1,85 @@
+package org.estg.benchmarks.events;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.estg.domain.event.MemberRegisteredEvent;
+import org.estg.schedule.domain.event.SessionScheduledEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Domain-event JSON: producer-side conversion with the services' Jackson2JsonMessageConverter,
+ * and consumer-side parsing into a JsonNode tree as done by the report/notifications listeners.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainEventJsonBenchmark {
+
+    private Jackson2JsonMessageConverter converter;
+    private ObjectMapper objectMapper;
+
+    private SessionScheduledEvent sessionScheduled;
+    private MemberRegisteredEvent memberRegistered;
+    private byte[] sessionScheduledBody;
+    private byte[] memberRegisteredBody;
+
+    @Setup
+    public void setUp() {
+        converter = new Jackson2JsonMessageConverter();
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+        LocalDateTime start = LocalDateTime.of(2026, 3, 2, 18, 0);
+        sessionScheduled = new SessionScheduledEvent("session-1", "member123", "trainer456",
+                start, start.plusHours(1), start.minusDays(2));
+        memberRegistered = new MemberRegisteredEvent("member123", "member@gymhub.pt", "Member Name");
+
+        sessionScheduledBody = converter.toMessage(sessionScheduled, new MessageProperties()).getBody();
+        memberRegisteredBody = converter.toMessage(memberRegistered, new MessageProperties()).getBody();
+    }
+
+    @Benchmark
+    public Message serializeSessionScheduled() {
+        return converter.toMessage(sessionScheduled, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message serializeMemberRegistered() {
+        return converter.toMessage(memberRegistered, new MessageProperties());
+    }
+
+    @Benchmark
+    public JsonNode parseSessionScheduled() throws IOException {
+        return objectMapper.readTree(sessionScheduledBody);
+    }
+
+    @Benchmark
+    public JsonNode parseMemberRegistered() throws IOException {
+        return objectMapper.readTree(memberRegisteredBody);
+    }
+
+    @Benchmark
+    public String roundTripSessionScheduled() throws IOException {
+        return objectMapper.writeValueAsString(objectMapper.readTree(sessionScheduledBody));
+    }
+}
@@ -0,0 +1,73 @@
+package org.estg.benchmarks.members;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.estg.benchmarks.support.Stubs;
+import org.estg.data.MembersRepository;
+import org.estg.domain.valueobject.Address;
+import org.estg.domain.valueobject.Email;
+import org.estg.domain.valueobject.PhoneNumber;
+import org.estg.domain.valueobject.TrainingGoal;
+import org.estg.dto.MembersDTO;
+import org.estg.model.Members;
+import org.estg.service.MembersService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MembersService.toDto, measured through the public single-member path.
+ * The repository is stubbed and injected the way Spring does it (field injection).
+ * Listings no longer go through toDto; see MemberListingBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberDtoBenchmark {
+
+    private MembersService membersService;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Members first = member(0);
+        MembersRepository repository = Stubs.of(MembersRepository.class, Map.of(
+                "findById", args -> Optional.of(first)));
+
+        membersService = new MembersService();
+        Field field = MembersService.class.getDeclaredField("memberRepository");
+        field.setAccessible(true);
+        field.set(membersService, repository);
+    }
+
+    @Benchmark
+    public MembersDTO singleMember() {
+        return membersService.getMemberById("member-0");
+    }
+
+    private static Members member(int i) {
+        Members member = new Members();
+        member.setId("member-" + i);
+        member.setFullName("Member " + i);
+        member.setEmail(new Email("member" + i + "@gymhub.pt"));
+        member.setPhoneNumber(new PhoneNumber("912345678"));
+        member.setTrainingGoal(new TrainingGoal("Weight loss"));
+        member.setExperienceLevel("Beginner");
+        member.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        member.setAddress(new Address("Rua Principal 1", "Felgueiras", "4610-156"));
+        return member;
+    }
+}
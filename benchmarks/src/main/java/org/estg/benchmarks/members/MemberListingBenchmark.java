@@ -0,0 +1,162 @@
+package org.estg.benchmarks.members;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.estg.data.MemberSearchRepository;
+import org.estg.data.MembersRepository;
+import org.estg.domain.valueobject.Address;
+import org.estg.domain.valueobject.Email;
+import org.estg.domain.valueobject.PhoneNumber;
+import org.estg.domain.valueobject.TrainingGoal;
+import org.estg.dto.MembersDTO;
+import org.estg.infrastructure.event.InMemoryEventPublisher;
+import org.estg.model.Members;
+import org.estg.model.SessionRecord;
+import org.estg.service.MembersService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * One page of GET /api/members against a real JPA stack (in-memory H2, members with session history).
+ * {@code entityPage} is the previous path: hydrate Members entities and their embeddables, then copy them
+ * into MembersDTO; {@code projectionPage} is MembersService.getMembersByPage selecting straight into the DTO.
+ * Run with {@code -prof gc} to compare allocation per page ("gc.alloc.rate.norm").
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberListingBenchmark {
+
+    private static final int MEMBERS = 2_000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private MembersService membersService;
+    private MembersRepository membersRepository;
+    private TransactionTemplate readOnly;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        // Arguments, so they win over the members application.yml on the classpath
+        context = new SpringApplicationBuilder(MembersJpa.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:members_bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.rabbitmq.listener.simple.auto-startup=false",
+                        "--spring.cloud.loadbalancer.enabled=false",
+                        "--eureka.client.enabled=false",
+                        "--logging.level.root=WARN");
+        membersService = context.getBean(MembersService.class);
+        membersRepository = context.getBean(MembersRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        List<Members> members = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(member(i));
+        }
+        membersRepository.saveAll(members);
+
+        // A page from the middle of the table, unsorted like the list endpoint's default
+        pageable = PageRequest.of(MEMBERS / pageSize / 2, pageSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Just the members persistence layer and service: MembersApplication would component-scan every
+     * service on the benchmarks classpath, since they all share the org.estg root package.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Members.class)
+    @EnableJpaRepositories(basePackageClasses = MembersRepository.class)
+    @Import({MembersService.class, MemberSearchRepository.class, InMemoryEventPublisher.class})
+    static class MembersJpa {
+    }
+
+    @Benchmark
+    public Page<MembersDTO> entityPage() {
+        return readOnly.execute(status -> membersRepository.findAll(pageable).map(MemberListingBenchmark::copy));
+    }
+
+    @Benchmark
+    public Page<MembersDTO> projectionPage() {
+        return membersService.getMembersByPage(pageable);
+    }
+
+    // Field-for-field what MembersService.toDto does for one entity
+    private static MembersDTO copy(Members member) {
+        MembersDTO dto = new MembersDTO();
+        dto.setId(member.getId());
+        dto.setFullName(member.getFullName());
+        dto.setEmail(member.getEmail() != null ? member.getEmail().getValue() : null);
+        dto.setDateOfBirth(member.getDateOfBirth());
+        dto.setPhoneNumber(member.getPhoneNumber() != null ? member.getPhoneNumber().getValue() : null);
+        dto.setTrainingGoal(member.getTrainingGoal() != null ? member.getTrainingGoal().getValue() : null);
+        dto.setExperienceLevel(member.getExperienceLevel());
+        dto.setStatus(member.getStatus().name());
+        if (member.getAddress() != null) {
+            dto.setAddress(member.getAddress().getLine());
+            dto.setCity(member.getAddress().getCity());
+            dto.setZipCode(member.getAddress().getZipCode());
+        }
+        return dto;
+    }
+
+    private static Members member(int i) {
+        Members member = new Members();
+        member.setFullName(String.format("Member %05d", i));
+        member.setEmail(new Email("member" + i + "@gymhub.pt"));
+        member.setPhoneNumber(new PhoneNumber("912345678"));
+        member.setTrainingGoal(new TrainingGoal("Weight loss"));
+        member.setExperienceLevel("Beginner");
+        member.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        member.setAddress(new Address("Rua Principal 1", "Felgueiras", "4610-156"));
+        for (int s = 0; s < 5; s++) {
+            member.addSession(new SessionRecord(null, null, LocalDateTime.of(2025, 1, 1, 9, 0).plusDays(s),
+                    "Session " + s, "Ana", "PERSONAL", true));
+        }
+        return member;
+    }
+}
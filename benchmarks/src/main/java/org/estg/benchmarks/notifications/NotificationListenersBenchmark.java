@@ -0,0 +1,81 @@
+package org.estg.benchmarks.notifications;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.estg.benchmarks.support.Stubs;
+import org.estg.notifications.data.NotificationRepository;
+import org.estg.notifications.infrastructure.event.ScheduleEventsListener;
+import org.estg.notifications.infrastructure.event.WorkoutEventsListener;
+import org.estg.notifications.service.NotificationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Notification listeners end to end minus the broker and the database: JsonNode parsing, routing
+ * and notification creation. Listener INFO logging is turned off by the benchmarks' logback.xml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationListenersBenchmark {
+
+    private ScheduleEventsListener scheduleListener;
+    private WorkoutEventsListener workoutListener;
+
+    private Message sessionScheduled;
+    private Message workoutPlanCreated;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        NotificationRepository repository = Stubs.of(NotificationRepository.class,
+                Map.of("save", args -> args[0]));
+        NotificationService notificationService = new NotificationService(repository);
+
+        scheduleListener = new ScheduleEventsListener(notificationService, objectMapper);
+        workoutListener = new WorkoutEventsListener(notificationService, objectMapper);
+
+        sessionScheduled = message("schedule.session.scheduled",
+                "{\"eventId\":\"e1\",\"sessionId\":\"session-1\",\"occurredOn\":\"2026-02-28T18:00:00\","
+                        + "\"eventType\":\"SESSION_SCHEDULED\",\"memberId\":\"member123\",\"trainerId\":\"trainer456\","
+                        + "\"startTime\":\"2026-03-02T18:00:00\",\"endTime\":\"2026-03-02T19:00:00\"}");
+        workoutPlanCreated = message("workout.plan.created",
+                "{\"type\":\"WorkoutPlanCreated\",\"planId\":\"plan-1\",\"memberId\":\"member123\","
+                        + "\"trainerId\":\"trainer456\",\"occurredAt\":\"2026-02-28T18:00:00Z\"}");
+    }
+
+    @Benchmark
+    public void scheduleEvent() {
+        scheduleListener.onScheduleEvent(sessionScheduled);
+    }
+
+    @Benchmark
+    public void workoutEvent() {
+        workoutListener.onWorkoutEvent(workoutPlanCreated);
+    }
+
+    private static Message message(String routingKey, String json) {
+        MessageProperties properties = new MessageProperties();
+        properties.setReceivedRoutingKey(routingKey);
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(json.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
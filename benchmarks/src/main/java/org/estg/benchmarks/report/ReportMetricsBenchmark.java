@@ -0,0 +1,62 @@
+package org.estg.benchmarks.report;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.estg.benchmarks.support.Stubs;
+import org.estg.report.data.ReportEventRepository;
+import org.estg.report.data.ReportRepository;
+import org.estg.report.dto.ReportResponse;
+import org.estg.report.service.ReportGenerationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ReportGenerationService} metric assembly on a cache miss: period parsing, counts and the metrics JSON.
+ * The repositories are stubbed, so query time is excluded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportMetricsBenchmark {
+
+    private ReportGenerationService reportService;
+
+    @Setup
+    public void setUp() {
+        ReportRepository reportRepository = Stubs.of(ReportRepository.class, Map.of(
+                "findTopByReportTypeAndPeriodOrderByGeneratedDateDesc", args -> Optional.empty(),
+                "save", args -> args[0]));
+        ReportEventRepository eventRepository = Stubs.of(ReportEventRepository.class, Map.of(
+                "countByTypeSince", args -> 42L,
+                "countAllSince", args -> 1_000L));
+        reportService = new ReportGenerationService(reportRepository, eventRepository);
+    }
+
+    @Benchmark
+    public ReportResponse occupancyReport() {
+        return reportService.getOccupancyReport("30d", "personal");
+    }
+
+    @Benchmark
+    public ReportResponse growthReport() {
+        return reportService.getGrowthReport("90");
+    }
+
+    @Benchmark
+    public ReportResponse activityReport() {
+        return reportService.getActivityReport("7d");
+    }
+}
@@ -0,0 +1,74 @@
+package org.estg.benchmarks.schedule;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.estg.schedule.model.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Session} domain state transitions: booking to completion, booking to cancellation, and validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionLifecycleBenchmark {
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    @Setup
+    public void setUp() {
+        // Far enough ahead that schedule() never sees a start time in the past
+        start = LocalDateTime.now().plusYears(1);
+        end = start.plusHours(1);
+    }
+
+    @Benchmark
+    public Session scheduleStartComplete() {
+        Session session = newSession();
+        session.validate();
+        session.schedule();
+        session.startSession();
+        session.completeSession(450, "Good session");
+        return session;
+    }
+
+    @Benchmark
+    public Session scheduleCancel() {
+        Session session = newSession();
+        session.validate();
+        session.schedule();
+        session.cancelSession("Member unavailable");
+        return session;
+    }
+
+    @Benchmark
+    public Session reschedule() {
+        Session session = newSession();
+        session.schedule();
+        session.updateDetails(start.plusDays(1), end.plusDays(1), "Upper body", "Moved by a day");
+        return session;
+    }
+
+    private Session newSession() {
+        Session session = new Session();
+        session.setMemberId("member123");
+        session.setTrainerId("trainer456");
+        session.setStartTime(start);
+        session.setEndTime(end);
+        return session;
+    }
+}
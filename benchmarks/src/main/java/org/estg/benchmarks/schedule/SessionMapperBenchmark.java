@@ -0,0 +1,137 @@
+package org.estg.benchmarks.schedule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.estg.schedule.dto.SessionDTO;
+import org.estg.schedule.mapper.SessionMapper;
+import org.estg.schedule.model.Session;
+import org.estg.schedule.model.SessionParticipant;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Schedule DTO mapping: the hand-written {@link SessionMapper} against the ModelMapper setup it replaced
+ * (same configuration as the former schedule MapperConfiguration bean).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionMapperBenchmark {
+
+    // Default keyset page size of GET /api/sessions/page
+    private static final int PAGE_SIZE = 50;
+
+    private ModelMapper modelMapper;
+    private SessionMapper sessionMapper;
+
+    private Session personalSession;
+    private Session groupSession;
+    private List<Session> page;
+    private SessionDTO bookingRequest;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setSkipNullEnabled(true)
+                .setAmbiguityIgnored(true);
+        sessionMapper = new SessionMapper();
+
+        LocalDateTime start = LocalDateTime.of(2026, 3, 2, 18, 0);
+        personalSession = session("session-0", Session.SessionType.PERSONAL, start);
+
+        groupSession = session("session-group", Session.SessionType.GROUP, start);
+        for (int i = 0; i < 3; i++) {
+            SessionParticipant participant = new SessionParticipant();
+            participant.setId("participant-" + i);
+            participant.setMemberId("member-" + i);
+            groupSession.addParticipant(participant);
+        }
+
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(session("session-" + i, Session.SessionType.PERSONAL, start.plusHours(i)));
+        }
+
+        bookingRequest = new SessionDTO();
+        bookingRequest.setMemberId("member123");
+        bookingRequest.setTrainerId("trainer456");
+        bookingRequest.setStartTime(start);
+        bookingRequest.setEndTime(start.plusHours(1));
+        bookingRequest.setSessionType("PERSONAL");
+        bookingRequest.setFocusArea("Legs");
+    }
+
+    @Benchmark
+    public SessionDTO modelMapperToDto() {
+        return modelMapper.map(personalSession, SessionDTO.class);
+    }
+
+    @Benchmark
+    public SessionDTO handWrittenToDto() {
+        return sessionMapper.toDto(personalSession);
+    }
+
+    @Benchmark
+    public SessionDTO modelMapperGroupToDto() {
+        return modelMapper.map(groupSession, SessionDTO.class);
+    }
+
+    @Benchmark
+    public SessionDTO handWrittenGroupToDto() {
+        return sessionMapper.toDto(groupSession);
+    }
+
+    @Benchmark
+    public void modelMapperPage(Blackhole bh) {
+        for (Session session : page) {
+            bh.consume(modelMapper.map(session, SessionDTO.class));
+        }
+    }
+
+    @Benchmark
+    public void handWrittenPage(Blackhole bh) {
+        for (Session session : page) {
+            bh.consume(sessionMapper.toDto(session));
+        }
+    }
+
+    @Benchmark
+    public Session modelMapperToEntity() {
+        return modelMapper.map(bookingRequest, Session.class);
+    }
+
+    @Benchmark
+    public Session handWrittenToEntity() {
+        return sessionMapper.toEntity(bookingRequest);
+    }
+
+    private static Session session(String id, Session.SessionType type, LocalDateTime start) {
+        Session session = new Session();
+        session.setId(id);
+        session.setMemberId("member123");
+        session.setTrainerId("trainer456");
+        session.setStartTime(start);
+        session.setEndTime(start.plusHours(1));
+        session.setSessionType(type);
+        session.setFocusArea("Legs");
+        session.setSessionNotes("Bring water");
+        return session;
+    }
+}
@@ -0,0 +1,38 @@
+package org.estg.benchmarks.support;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Minimal repository stand-ins for benchmarks: a JDK proxy answering the named methods from fixtures.
+ * Cheaper and more predictable than a mocking framework inside a measured loop.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * @param answers method name -> answer computed from the call arguments; any other method throws
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "Stub<" + type.getSimpleName() + ">";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    return answer.apply(args);
+            }
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package org.estg.benchmarks.trainers;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.estg.benchmarks.support.Stubs;
+import org.estg.trainers.data.AvailableSlot;
+import org.estg.trainers.data.TrainerRepository;
+import org.estg.trainers.data.TrainerScheduleExceptionRepository;
+import org.estg.trainers.data.TrainerScheduleRepository;
+import org.estg.trainers.model.Trainer;
+import org.estg.trainers.model.TrainerStatus;
+import org.estg.trainers.service.TrainerAvailabilityIndex;
+import org.estg.trainers.service.TrainersService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TrainersService#isTrainerAvailable} over a day of 45-minute AVAILABLE slots, one per hour.
+ * Repositories are stubbed and the availability index (template and dated week) is warm after the first
+ * call, so the validation and the bitmap containment check are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrainerAvailabilityBenchmark {
+
+    private static final String TRAINER_ID = "trainer456";
+
+    @Param({"4", "16"})
+    private int slotsPerDay;
+
+    private TrainersService trainersService;
+
+    // Fits the last slot of the day
+    private LocalDateTime lastSlotStart;
+    private LocalDateTime lastSlotEnd;
+
+    // Straddles the gap between two slots
+    private LocalDateTime straddlingStart;
+    private LocalDateTime straddlingEnd;
+
+    @Setup
+    public void setUp() {
+        Trainer trainer = new Trainer();
+        trainer.setId(TRAINER_ID);
+        trainer.setStatus(TrainerStatus.ACTIVE);
+
+        List<AvailableSlot> slots = new ArrayList<>(slotsPerDay);
+        for (int i = 0; i < slotsPerDay; i++) {
+            slots.add(new AvailableSlot(TRAINER_ID, DayOfWeek.MONDAY, LocalTime.of(6 + i, 0), LocalTime.of(6 + i, 45)));
+        }
+
+        TrainerRepository trainerRepository = Stubs.of(TrainerRepository.class,
+                Map.of("findAllById", args -> List.of(trainer)));
+        TrainerScheduleRepository scheduleRepository = Stubs.of(TrainerScheduleRepository.class,
+                Map.of("findAvailableSlots", args -> slots));
+        TrainerScheduleExceptionRepository exceptionRepository = Stubs.of(TrainerScheduleExceptionRepository.class,
+                Map.of("findSlots", args -> List.of()));
+        trainersService = new TrainersService(trainerRepository, scheduleRepository, exceptionRepository,
+                new TrainerAvailabilityIndex(trainerRepository, scheduleRepository, exceptionRepository,
+                        event -> { }, Duration.ofHours(1), 100, 100));
+
+        LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        lastSlotStart = monday.atTime(LocalTime.of(5 + slotsPerDay, 15));
+        lastSlotEnd = monday.atTime(LocalTime.of(5 + slotsPerDay, 40));
+        straddlingStart = monday.atTime(LocalTime.of(6, 30));
+        straddlingEnd = monday.atTime(LocalTime.of(7, 30));
+    }
+
+    @Benchmark
+    public boolean availableInLastSlot() {
+        return trainersService.isTrainerAvailable(TRAINER_ID, lastSlotStart, lastSlotEnd);
+    }
+
+    @Benchmark
+    public boolean notAvailableAcrossSlots() {
+        return trainersService.isTrainerAvailable(TRAINER_ID, straddlingStart, straddlingEnd);
+    }
+}
@@ -0,0 +1,55 @@
+package org.estg.config;
+
+import javax.sql.DataSource;
+
+import org.estg.data.MemberSearchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Installs the pg_trgm GIN indexes behind GET /api/members/search.
+ * Hibernate (ddl-auto) cannot declare expression or operator-class indexes, so they are created
+ * idempotently at startup. Other databases (H2 in tests) are skipped and searched with plain LIKE.
+ */
+@Component
+public class MemberSearchIndexes implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberSearchIndexes.class);
+
+    private final MemberSearchRepository memberSearchRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberSearchIndexes(DataSource dataSource, MemberSearchRepository memberSearchRepository) {
+        this.memberSearchRepository = memberSearchRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!memberSearchRepository.isPostgres()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            // Expressions must match MemberSearchRepository's predicates exactly for the planner to use them
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_members_full_name_trgm"
+                    + " ON members USING gin (lower(full_name) gin_trgm_ops)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_members_email_trgm"
+                    + " ON members USING gin (lower(email) gin_trgm_ops)");
+            // Phone numbers are searched on their digits, whatever separators they were stored with
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_members_phone_number_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_members_phone_digits_trgm"
+                    + " ON members USING gin ((regexp_replace(phone_number, '\\D', '', 'g')) gin_trgm_ops)");
+            log.info("Member search trigram indexes installed");
+        } catch (DataAccessException ex) {
+            // Missing extension privileges must not keep the service down; search still works, unindexed
+            log.warn("Member search indexes not installed: {}", ex.getMostSpecificCause().getMessage());
+        }
+    }
+}
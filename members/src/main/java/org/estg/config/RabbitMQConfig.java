@@ -31,12 +31,24 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.queue.member-suspended:member.suspended.queue}")
     private String memberSuspendedQueue;
 
+    @Value("${rabbitmq.exchange.schedule:schedule-exchange}")
+    private String scheduleExchangeName;
+
+    @Value("${rabbitmq.queue.session-activity:members.session.activity.queue}")
+    private String sessionActivityQueue;
+
     // Exchange
     @Bean
     public DirectExchange membersExchange() {
         return new DirectExchange(exchangeName, true, false);
     }
 
+    // schedule-service exchange, consumed for member activity counters
+    @Bean
+    public DirectExchange scheduleExchange() {
+        return new DirectExchange(scheduleExchangeName, true, false);
+    }
+
     // JSON converter for message payloads
     @Bean
     public MessageConverter messageConverter() {
@@ -112,4 +124,30 @@ public class RabbitMQConfig {
                 .to(membersExchange)
                 .with("member.member_suspended");
     }
+
+    // Session outcomes from schedule-service -> member activity counters
+    @Bean
+    public Queue sessionActivityQueue() {
+        return new Queue(sessionActivityQueue, true);
+    }
+
+    @Bean
+    public Binding bindSessionCompleted(
+            @Qualifier("sessionActivityQueue") Queue q,
+            DirectExchange scheduleExchange
+    ) {
+        return BindingBuilder.bind(q)
+                .to(scheduleExchange)
+                .with("schedule.session.completed");
+    }
+
+    @Bean
+    public Binding bindSessionCancelled(
+            @Qualifier("sessionActivityQueue") Queue q,
+            DirectExchange scheduleExchange
+    ) {
+        return BindingBuilder.bind(q)
+                .to(scheduleExchange)
+                .with("schedule.session.cancelled");
+    }
 }
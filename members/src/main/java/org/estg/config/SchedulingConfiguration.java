@@ -0,0 +1,10 @@
+package org.estg.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (processed schedule event and idempotency key purges)
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
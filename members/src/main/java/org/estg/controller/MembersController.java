@@ -1,18 +1,35 @@
 package org.estg.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.estg.dto.MemberActivityDTO;
+import org.estg.dto.MemberImportResultDTO;
+import org.estg.dto.MemberListPageDTO;
 import org.estg.dto.MemberProfileDTO;
+import org.estg.dto.MemberSearchPageDTO;
+import org.estg.dto.MemberStatusBatchRequest;
+import org.estg.dto.MemberStatusBatchResponse;
+import org.estg.dto.MemberStatusDTO;
 import org.estg.dto.MembersDTO;
 import org.estg.dto.SessionRecordDTO;
+import org.estg.dto.SessionRecordPageDTO;
+import org.estg.infrastructure.idempotency.IdempotencyStore;
+import org.estg.service.MemberImportService;
 import org.estg.service.MembersService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 // REST controller for Members Service (aligned with RF-MEM-01..RF-MEM-07)
 @RestController
@@ -20,16 +37,34 @@ import org.springframework.web.bind.annotation.*;
 public class MembersController {
 
     private final MembersService membersService;
+    private final MemberImportService memberImportService;
+    private final IdempotencyStore idempotencyStore;
 
-    public MembersController(MembersService membersService) {
+    public MembersController(MembersService membersService, MemberImportService memberImportService,
+                             IdempotencyStore idempotencyStore) {
         this.membersService = membersService;
+        this.memberImportService = memberImportService;
+        this.idempotencyStore = idempotencyStore;
     }
 
-    // RF-MEM-01 - Create Member
+    // RF-MEM-01 - Create Member (a retried request with the same Idempotency-Key gets the original response)
     @PostMapping("/register")
-    public ResponseEntity<MembersDTO> registerMember(@RequestBody MembersDTO memberDTO) {
-        MembersDTO result = membersService.registerMember(memberDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    public ResponseEntity<MembersDTO> registerMember(
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestBody MembersDTO memberDTO) {
+        return idempotencyStore.execute("register", idempotencyKey, memberDTO, MembersDTO.class, () -> {
+            MembersDTO result = membersService.registerMember(memberDTO);
+            return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        });
+    }
+
+    // POST /api/members/import - bulk registration from CSV (header row) or NDJSON, read as a stream
+    @PostMapping(value = "/import", consumes = {MemberImportService.CSV, MemberImportService.NDJSON})
+    public ResponseEntity<MemberImportResultDTO> importMembers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        boolean ndjson = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON);
+        return ResponseEntity.ok(memberImportService.importMembers(body, ndjson));
     }
 
     // RF-MEM-05 - List Members (pagination)
@@ -49,6 +84,34 @@ public class MembersController {
         return ResponseEntity.ok(membersService.getMembersByPage(pageable));
     }
 
+    // GET /api/members?cursor=&size=&trainingGoal=&withTotal= - count-free keyset mode for infinite scroll.
+    // An empty cursor starts at the first page; each page returns the cursor of the next one.
+    @GetMapping(params = "cursor")
+    public ResponseEntity<MemberListPageDTO> listMembersAfter(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String trainingGoal,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        try {
+            return ResponseEntity.ok(membersService.getMembersAfter(trainingGoal, cursor, size, withTotal));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // GET /api/members/search?q=...&cursor=...&limit=... - partial name / email / phone, best matches first
+    @GetMapping("/search")
+    public ResponseEntity<MemberSearchPageDTO> searchMembers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(membersService.searchMembers(q, cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // RF-MEM-03 - Update Member
     @PutMapping("/{id}/update")
     public ResponseEntity<MembersDTO> updateMember(@NonNull @PathVariable String id, @RequestBody MembersDTO memberDTO) {
@@ -83,22 +146,73 @@ public class MembersController {
         return ResponseEntity.ok(membersService.getMemberById(id));
     }
 
-    // RF-MEM-07 - Session History (list sessions)
+    // GET /api/members/{id}/status - status only; ETag is the status, so If-None-Match revalidates cheaply
+    @GetMapping("/{id}/status")
+    public ResponseEntity<MemberStatusDTO> getStatus(@NonNull @PathVariable String id, WebRequest request) {
+        return membersService.findMemberStatus(id)
+                .map(status -> {
+                    String etag = "\"" + status.getStatus() + "\"";
+                    if (request.checkNotModified(etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<MemberStatusDTO>build();
+                    }
+                    return ResponseEntity.ok().eTag(etag).body(status);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // POST /api/members/status:batch - many statuses in one round trip
+    @PostMapping("/status:batch")
+    public ResponseEntity<MemberStatusBatchResponse> getStatuses(@RequestBody MemberStatusBatchRequest request) {
+        List<String> ids = request != null ? request.getIds() : null;
+        if (ids == null || ids.isEmpty() || ids.size() > MembersService.MAX_STATUS_BATCH) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(membersService.getMemberStatuses(ids));
+    }
+
+    // RF-MEM-07 - Session History (list sessions, newest first, capped)
     @GetMapping("/{id}/sessions")
     public ResponseEntity<List<SessionRecordDTO>> getSessions(@NonNull @PathVariable String id) {
         return ResponseEntity.ok(membersService.getMemberSessions(id));
     }
 
+    // GET /api/members/{id}/sessions/page?from=&to=&cursor=&limit= - keyset pages ordered by (sessionDateTime, id) desc
+    @GetMapping("/{id}/sessions/page")
+    public ResponseEntity<SessionRecordPageDTO> getSessionsPage(
+            @NonNull @PathVariable String id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(membersService.getMemberSessionsPage(id, from, to, cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // RF-MEM-07 - Session History (add session)
     @PostMapping("/{id}/sessions")
-    public ResponseEntity<SessionRecordDTO> addSession(@NonNull @PathVariable String id, @RequestBody SessionRecordDTO sessionDTO) {
-        SessionRecordDTO created = membersService.addSessionToMember(id, sessionDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    public ResponseEntity<SessionRecordDTO> addSession(
+            @NonNull @PathVariable String id,
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestBody SessionRecordDTO sessionDTO) {
+        return idempotencyStore.execute("sessions/" + id, idempotencyKey, sessionDTO, SessionRecordDTO.class, () -> {
+            SessionRecordDTO created = membersService.addSessionToMember(id, sessionDTO);
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        });
     }
 
-    // RF-MEM-07 - View Member Profile
+    // RF-MEM-07 - View Member Profile (latest ?recent= sessions + history counters)
     @GetMapping("/{id}/profile")
-    public ResponseEntity<MemberProfileDTO> getProfile(@NonNull @PathVariable String id) {
-        return ResponseEntity.ok(membersService.getProfile(id));
+    public ResponseEntity<MemberProfileDTO> getProfile(@NonNull @PathVariable String id,
+                                                       @RequestParam(required = false) Integer recent) {
+        return ResponseEntity.ok(membersService.getProfile(id, recent));
+    }
+
+    // POST /api/members/{id}/activity/rebuild - recount the activity buckets from schedule-service sessions
+    @PostMapping("/{id}/activity/rebuild")
+    public ResponseEntity<MemberActivityDTO> rebuildActivity(@NonNull @PathVariable String id) {
+        return ResponseEntity.ok(membersService.rebuildActivity(id));
     }
 }
@@ -0,0 +1,41 @@
+package org.estg.data;
+
+import java.time.LocalDateTime;
+
+import org.estg.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+
+    // 1 when this transaction now owns the key, 0 when another one does; a concurrent claimer waits on
+    // the primary key until the owner commits or rolls back
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (scope, idempotency_key, request_hash, created_at)"
+            + " VALUES (:scope, :key, :requestHash, :createdAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int claim(@Param("scope") String scope, @Param("key") String key,
+              @Param("requestHash") String requestHash, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :status, r.body = :body"
+            + " WHERE r.scope = :scope AND r.key = :key")
+    int complete(@Param("scope") String scope, @Param("key") String key,
+                 @Param("status") int status, @Param("body") String body);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.scope = :scope AND r.key = :key")
+    int release(@Param("scope") String scope, @Param("key") String key);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.scope = :scope AND r.key = :key AND r.createdAt < :before")
+    int deleteExpired(@Param("scope") String scope, @Param("key") String key,
+                      @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,38 @@
+package org.estg.data;
+
+import java.util.List;
+
+import org.estg.model.MemberActivityMonth;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemberActivityRepository extends JpaRepository<MemberActivityMonth, MemberActivityMonth.Key> {
+
+    // Primary-key range: one member's buckets from a month onwards, newest first
+    List<MemberActivityMonth> findByMemberIdAndMonthGreaterThanEqualOrderByMonthDesc(String memberId, int fromMonth);
+
+    // Counters are bumped in the database so concurrent events for the same member-month never overwrite
+    // each other: the row is created if missing, then incremented in place under its row lock
+    @Modifying
+    @Query(value = "INSERT INTO member_activity_months (member_id, activity_month, completed, cancelled)"
+            + " VALUES (:memberId, :month, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int createIfAbsent(@Param("memberId") String memberId, @Param("month") int month);
+
+    @Modifying
+    @Query("UPDATE MemberActivityMonth m SET m.completed = m.completed + 1"
+            + " WHERE m.memberId = :memberId AND m.month = :month")
+    int incrementCompleted(@Param("memberId") String memberId, @Param("month") int month);
+
+    @Modifying
+    @Query("UPDATE MemberActivityMonth m SET m.cancelled = m.cancelled + 1"
+            + " WHERE m.memberId = :memberId AND m.month = :month")
+    int incrementCancelled(@Param("memberId") String memberId, @Param("month") int month);
+
+    @Modifying
+    @Query("DELETE FROM MemberActivityMonth m WHERE m.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") String memberId);
+}
@@ -0,0 +1,114 @@
+package org.estg.data;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.estg.dto.MemberSearchResultDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Free-text member lookup by partial name, email or phone.
+ * On PostgreSQL the predicates are served by the pg_trgm GIN indexes from MemberSearchIndexes and hits
+ * are ranked by trigram word similarity; elsewhere a plain LIKE scan ordered by id is used.
+ * Phone numbers are compared digits only, so "912 345" finds "+351 912-345-678" however it was typed.
+ * Results are keyset-paged on (score desc, id asc).
+ */
+@Repository
+public class MemberSearchRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberSearchRepository.class);
+
+    private static final String POSTGRES_SEARCH = """
+            SELECT * FROM (
+                SELECT m.id, m.full_name, m.email, m.phone_number, m.status,
+                       CAST(GREATEST(word_similarity(:q, lower(m.full_name)),
+                                     word_similarity(:q, lower(m.email)),
+                                     CASE WHEN regexp_replace(m.phone_number, '\\D', '', 'g') LIKE :digitsLike
+                                          THEN 1 ELSE 0 END) AS real) AS score
+                  FROM members m
+                 WHERE :q <% lower(m.full_name)
+                    OR lower(m.email) LIKE :like
+                    OR regexp_replace(m.phone_number, '\\D', '', 'g') LIKE :digitsLike
+            ) hits
+            """;
+
+    private static final String FALLBACK_SEARCH = """
+            SELECT * FROM (
+                SELECT m.id, m.full_name, m.email, m.phone_number, m.status, CAST(0 AS real) AS score
+                  FROM members m
+                 WHERE lower(m.full_name) LIKE :like
+                    OR lower(m.email) LIKE :like
+                    OR regexp_replace(m.phone_number, '\\D', '', 'g') LIKE :digitsLike
+            ) hits
+            """;
+
+    private static final RowMapper<MemberSearchResultDTO> ROW_MAPPER = (rs, rowNum) -> new MemberSearchResultDTO(
+            rs.getString("id"),
+            rs.getString("full_name"),
+            rs.getString("email"),
+            rs.getString("phone_number"),
+            rs.getString("status"),
+            rs.getFloat("score"));
+
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public MemberSearchRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * @param term       lower-cased search text
+     * @param digits     digits of the search text, empty when it holds none (phone matching is then off)
+     * @param afterScore score of the last hit of the previous page, null for the first page
+     * @param afterId    id of the last hit of the previous page, null for the first page
+     */
+    public List<MemberSearchResultDTO> search(String term, String digits, @Nullable Float afterScore,
+                                              @Nullable String afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("q", term)
+                .addValue("like", "%" + escapeLike(term) + "%")
+                // A pattern no phone number matches keeps the SQL static when there are no digits
+                .addValue("digitsLike", digits.isEmpty() ? "" : "%" + escapeLike(digits) + "%")
+                .addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder(isPostgres() ? POSTGRES_SEARCH : FALLBACK_SEARCH);
+        if (afterId != null) {
+            sql.append(" WHERE hits.score < :afterScore OR (hits.score = :afterScore AND hits.id > :afterId)");
+            params.addValue("afterScore", afterScore != null ? afterScore : 0f)
+                    .addValue("afterId", afterId);
+        }
+        sql.append(" ORDER BY hits.score DESC, hits.id LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    public boolean isPostgres() {
+        Boolean detected = postgres;
+        if (detected == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                detected = "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            } catch (SQLException ex) {
+                log.warn("Could not detect database type: {}", ex.getMessage());
+                return false;
+            }
+            postgres = detected;
+        }
+        return detected;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
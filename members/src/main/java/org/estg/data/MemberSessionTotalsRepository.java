@@ -0,0 +1,32 @@
+package org.estg.data;
+
+import java.time.LocalDateTime;
+
+import org.estg.model.MemberSessionTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemberSessionTotalsRepository extends JpaRepository<MemberSessionTotals, String> {
+
+    // Creates the member's row from the sessions recorded before it existed; a concurrent writer waits on
+    // the primary key and then finds the row. Call before inserting the new session
+    @Modifying
+    @Query(value = "INSERT INTO member_session_totals (member_id, total, completed, last_session_at)"
+            + " SELECT :memberId, count(*), coalesce(sum(CASE WHEN s.completed THEN 1 ELSE 0 END), 0),"
+            + " max(s.session_date_time) FROM session_records s WHERE s.member_id = :memberId"
+            + " ON CONFLICT DO NOTHING", nativeQuery = true)
+    int seedIfAbsent(@Param("memberId") String memberId);
+
+    // Counted in place, so sessions recorded concurrently for the same member are all kept
+    @Modifying
+    @Query("UPDATE MemberSessionTotals t SET t.total = t.total + 1, t.completed = t.completed + :completed,"
+            + " t.lastSessionAt = CASE WHEN t.lastSessionAt IS NULL OR t.lastSessionAt < :sessionAt"
+            + " THEN :sessionAt ELSE t.lastSessionAt END"
+            + " WHERE t.memberId = :memberId")
+    int addSession(@Param("memberId") String memberId, @Param("completed") long completed,
+                   @Param("sessionAt") LocalDateTime sessionAt);
+}
@@ -0,0 +1,11 @@
+package org.estg.data;
+
+import org.estg.model.Members;
+
+// Closed projection: only id and status are selected
+public interface MemberStatusView {
+
+    String getId();
+
+    Members.MemberStatus getStatus();
+}
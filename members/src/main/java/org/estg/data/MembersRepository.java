@@ -1,6 +1,12 @@
 package org.estg.data;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.estg.dto.MembersDTO;
 import org.estg.model.Members;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,15 +19,58 @@ public interface MembersRepository extends JpaRepository<Members, String> {
 
     boolean existsByEmailValue(String emailValue);
 
+    // Which of these emails are already registered - one set-based query per import chunk
+    @Query("SELECT m.email.value FROM Members m WHERE m.email.value IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // List rows are selected straight into MembersDTO: no entity, embeddable or persistence-context entry per row
+    String LIST_ITEM = "SELECT new org.estg.dto.MembersDTO(m.id, m.fullName, m.email.value, m.dateOfBirth,"
+            + " m.phoneNumber.value, m.trainingGoal.value, m.experienceLevel, cast(m.status AS String),"
+            + " m.address.line, m.address.city, m.address.zipCode) FROM Members m";
+
     // Default list behavior: ACTIVE members only.
-    Page<Members> findByStatus(Members.MemberStatus status, Pageable pageable);
+    @Query(value = LIST_ITEM + " WHERE m.status = :status",
+            countQuery = "SELECT count(m) FROM Members m WHERE m.status = :status")
+    Page<MembersDTO> findListByStatus(@Param("status") Members.MemberStatus status, Pageable pageable);
 
     // ACTIVE members, optional trainingGoal filter
+    @Query(value = LIST_ITEM + """
+             WHERE m.status = 'ACTIVE'
+               AND (:trainingGoal IS NULL OR :trainingGoal = '' OR m.trainingGoal.value = :trainingGoal)
+            """,
+            countQuery = """
+            SELECT count(m)
+              FROM Members m
+             WHERE m.status = 'ACTIVE'
+               AND (:trainingGoal IS NULL OR :trainingGoal = '' OR m.trainingGoal.value = :trainingGoal)
+            """)
+    Page<MembersDTO> findListByTrainingGoal(@Param("trainingGoal") String trainingGoal, Pageable pageable);
+
+    // Count-free keyset page of ACTIVE members ordered by (fullName, id), optional trainingGoal filter.
+    // Rows strictly after (afterName, afterId); the first page passes empty strings.
+    @Query(LIST_ITEM + """
+             WHERE m.status = 'ACTIVE'
+               AND (:trainingGoal IS NULL OR :trainingGoal = '' OR m.trainingGoal.value = :trainingGoal)
+               AND (m.fullName > :afterName OR (m.fullName = :afterName AND m.id > :afterId))
+             ORDER BY m.fullName, m.id
+            """)
+    List<MembersDTO> findListAfter(@Param("trainingGoal") String trainingGoal,
+                                   @Param("afterName") String afterName,
+                                   @Param("afterId") String afterId,
+                                   Limit limit);
+
     @Query("""
-            SELECT m
+            SELECT count(m)
               FROM Members m
              WHERE m.status = 'ACTIVE'
                AND (:trainingGoal IS NULL OR :trainingGoal = '' OR m.trainingGoal.value = :trainingGoal)
             """)
-    Page<Members> findByTrainingGoal(@Param("trainingGoal") String trainingGoal, Pageable pageable);
+    long countActive(@Param("trainingGoal") String trainingGoal);
+
+    // Status-only reads, answered from idx_members_id_status (index-only scan)
+    @Query("SELECT m.id AS id, m.status AS status FROM Members m WHERE m.id = :id")
+    Optional<MemberStatusView> findStatusById(@Param("id") String id);
+
+    @Query("SELECT m.id AS id, m.status AS status FROM Members m WHERE m.id IN :ids")
+    List<MemberStatusView> findStatusesByIdIn(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,18 @@
+package org.estg.data;
+
+import java.time.LocalDateTime;
+
+import org.estg.model.ProcessedScheduleEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProcessedScheduleEventRepository extends JpaRepository<ProcessedScheduleEvent, String> {
+
+    @Modifying
+    @Query("DELETE FROM ProcessedScheduleEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
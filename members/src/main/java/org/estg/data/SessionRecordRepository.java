@@ -1,9 +1,14 @@
 package org.estg.data;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.estg.dto.SessionRecordDTO;
 import org.estg.model.SessionRecord;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +17,24 @@ public interface SessionRecordRepository extends JpaRepository<SessionRecord, Lo
     List<SessionRecord> findByMemberId(String memberId);
 
     List<SessionRecord> findByMemberIdOrderBySessionDateTimeDesc(String memberId);
+
+    // Keyset page, newest first: rows in [from, beforeTime) plus rows at beforeTime with a smaller id.
+    // Served by a range scan on idx_session_records_member_time; rows are selected straight into the DTO.
+    @Query("SELECT new org.estg.dto.SessionRecordDTO(s.id, s.member.id, s.sessionDateTime, s.description,"
+            + " s.trainerName, s.sessionType, s.completed)"
+            + " FROM SessionRecord s WHERE s.member.id = :memberId"
+            + " AND s.sessionDateTime >= :from"
+            + " AND (s.sessionDateTime < :beforeTime OR (s.sessionDateTime = :beforeTime AND s.id < :beforeId))"
+            + " ORDER BY s.sessionDateTime DESC, s.id DESC")
+    List<SessionRecordDTO> findPageByMemberId(@Param("memberId") String memberId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("beforeTime") LocalDateTime beforeTime,
+                                              @Param("beforeId") Long beforeId,
+                                              Limit limit);
+
+    @Query("SELECT count(s) AS total,"
+            + " coalesce(sum(CASE WHEN s.completed = true THEN 1 ELSE 0 END), 0) AS completed,"
+            + " max(s.sessionDateTime) AS lastSessionAt"
+            + " FROM SessionRecord s WHERE s.member.id = :memberId")
+    SessionStatsView findStatsByMemberId(@Param("memberId") String memberId);
 }
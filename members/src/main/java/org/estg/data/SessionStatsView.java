@@ -0,0 +1,13 @@
+package org.estg.data;
+
+import java.time.LocalDateTime;
+
+// Aggregates over a member's whole session history, computed in the database
+public interface SessionStatsView {
+
+    Long getTotal();
+
+    Long getCompleted();
+
+    LocalDateTime getLastSessionAt();
+}
@@ -0,0 +1,29 @@
+package org.estg.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Session counters from schedule-service events: the current month plus monthly buckets, newest first.
+// Months without activity are omitted.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberActivityDTO {
+
+    private int completedThisMonth;
+    private int cancelledThisMonth;
+    private List<Month> months;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Month {
+        // yyyy-MM
+        private String month;
+        private int completed;
+        private int cancelled;
+    }
+}
@@ -0,0 +1,16 @@
+package org.estg.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One rejected import row; line is 1-based and counts the CSV header
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberImportErrorDTO {
+
+    private long line;
+    private String email;
+    private String message;
+}
@@ -0,0 +1,19 @@
+package org.estg.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Outcome of a bulk import; errors is capped, failed always holds the full count
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberImportResultDTO {
+
+    private long received;
+    private long imported;
+    private long failed;
+    private List<MemberImportErrorDTO> errors;
+}
@@ -0,0 +1,19 @@
+package org.estg.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One keyset page of ACTIVE members ordered by (fullName, id); nextCursor is null on the last page.
+// approximateTotal is only filled when requested, and may lag behind by the total cache TTL.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberListPageDTO {
+
+    private List<MembersDTO> items;
+    private String nextCursor;
+    private Long approximateTotal;
+}
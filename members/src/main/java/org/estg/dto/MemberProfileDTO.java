@@ -1,15 +1,22 @@
 package org.estg.dto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+// Member plus its latest sessions; the counters cover the whole history.
+// activity holds the monthly counters fed by schedule-service events.
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class MemberProfileDTO {
     private MembersDTO member;
     private List<SessionRecordDTO> sessions;
-}
\ No newline at end of file
+    private long totalSessions;
+    private long completedSessions;
+    private LocalDateTime lastSessionAt;
+    private MemberActivityDTO activity;
+}
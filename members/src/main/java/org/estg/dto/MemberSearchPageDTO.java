@@ -0,0 +1,17 @@
+package org.estg.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One keyset page of search hits ordered by (score desc, id); nextCursor is null on the last page
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberSearchPageDTO {
+
+    private List<MemberSearchResultDTO> items;
+    private String nextCursor;
+}
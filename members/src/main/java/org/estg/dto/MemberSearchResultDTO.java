@@ -0,0 +1,19 @@
+package org.estg.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One search hit; score is the trigram relevance in [0, 1] (always 0 without PostgreSQL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberSearchResultDTO {
+
+    private String id;
+    private String fullName;
+    private String email;
+    private String phoneNumber;
+    private String status;
+    private float score;
+}
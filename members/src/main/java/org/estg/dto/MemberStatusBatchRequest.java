@@ -0,0 +1,15 @@
+package org.estg.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberStatusBatchRequest {
+
+    private List<String> ids;
+}
@@ -0,0 +1,17 @@
+package org.estg.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Statuses in request order; unknown ids are listed in notFound
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberStatusBatchResponse {
+
+    private List<MemberStatusDTO> statuses;
+    private List<String> notFound;
+}
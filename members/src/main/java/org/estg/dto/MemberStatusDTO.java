@@ -0,0 +1,15 @@
+package org.estg.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Status-only view of a member, for services that just need to know whether a member is ACTIVE
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberStatusDTO {
+
+    private String id;
+    private String status;
+}
@@ -0,0 +1,17 @@
+package org.estg.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One keyset page of session records, newest first; nextCursor is null on the last page
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionRecordPageDTO {
+
+    private List<SessionRecordDTO> items;
+    private String nextCursor;
+}
@@ -0,0 +1,33 @@
+package org.estg.infrastructure.client;
+
+import java.util.List;
+
+import org.estg.infrastructure.client.dto.ScheduleSessionResponse;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+@Component
+public class ScheduleClient {
+
+    private static final ParameterizedTypeReference<List<ScheduleSessionResponse>> SESSION_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestClient restClient;
+
+    public ScheduleClient(RestClient.Builder loadBalancedRestClientBuilder) {
+        this.restClient = loadBalancedRestClientBuilder
+                .baseUrl("http://schedule-service")
+                .build();
+    }
+
+    // Every session of the member, whatever its status; failures propagate to the caller
+    public List<ScheduleSessionResponse> getMemberSessions(String memberId) {
+        List<ScheduleSessionResponse> sessions = restClient.get()
+                .uri("/api/sessions?memberId={memberId}", memberId)
+                .retrieve()
+                .body(SESSION_LIST);
+        return sessions != null ? sessions : List.of();
+    }
+}
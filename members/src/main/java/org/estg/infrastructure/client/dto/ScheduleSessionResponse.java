@@ -0,0 +1,18 @@
+package org.estg.infrastructure.client.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// The fields of schedule-service's SessionDTO that the activity rebuild reads
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleSessionResponse {
+    private String id;
+    private String status;
+    // Set when the session last changed state, i.e. when it was completed or cancelled
+    private LocalDateTime updatedAt;
+}
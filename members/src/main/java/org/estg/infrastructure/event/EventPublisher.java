@@ -1,7 +1,14 @@
 package org.estg.infrastructure.event;
 
+import java.util.List;
+
 import org.estg.domain.event.MemberEvent;
 
 public interface EventPublisher {
     void publish(MemberEvent event);
+
+    // Bulk variant for imports; implementations may send the whole list over one channel
+    default void publishAll(List<? extends MemberEvent> events) {
+        events.forEach(this::publish);
+    }
 }
@@ -0,0 +1,168 @@
+package org.estg.infrastructure.event;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Append-only NDJSON file of events that could not reach the broker.
+ * Appends are forced to disk; replay streams the file in batches and keeps whatever was not
+ * confirmed, in order. All operations are serialized on the store.
+ */
+public class EventSpillStore {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSpillStore.class);
+
+    /** Sends one batch and returns normally only once the broker confirmed it. */
+    @FunctionalInterface
+    public interface BatchSender {
+        void send(List<PendingEvent> batch);
+    }
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private long pending;
+
+    public EventSpillStore(Path directory, ObjectMapper objectMapper) {
+        this.file = directory.resolve("members-events.ndjson");
+        this.objectMapper = objectMapper;
+        try {
+            Files.createDirectories(directory);
+            this.pending = Files.exists(file) ? countLines(file) : 0;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open event spill file " + file, ex);
+        }
+    }
+
+    public synchronized long pending() {
+        return pending;
+    }
+
+    public synchronized void append(List<PendingEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (PendingEvent event : events) {
+            try {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Cannot serialize pending event " + event.eventId(), ex);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot append to event spill file " + file, ex);
+        }
+        pending += events.size();
+    }
+
+    /**
+     * Sends the spilled events oldest first, {@code batchSize} at a time.
+     * Stops at the first batch the sender rejects; that batch and everything after it stay spilled.
+     *
+     * @return how many events were confirmed
+     */
+    public synchronized int replay(int batchSize, BatchSender sender) {
+        if (pending == 0) {
+            return 0;
+        }
+
+        int confirmed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> lines = new ArrayList<>(batchSize);
+            String line;
+            while (true) {
+                lines.clear();
+                while (lines.size() < batchSize && (line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        lines.add(line);
+                    }
+                }
+                if (lines.isEmpty()) {
+                    break;
+                }
+
+                try {
+                    sender.send(parse(lines));
+                } catch (RuntimeException ex) {
+                    keepFrom(lines, reader);
+                    pending -= confirmed;
+                    throw ex;
+                }
+                confirmed += lines.size();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot replay event spill file " + file, ex);
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot delete replayed event spill file " + file, ex);
+        }
+        pending = 0;
+        return confirmed;
+    }
+
+    private List<PendingEvent> parse(List<String> lines) {
+        List<PendingEvent> events = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            try {
+                events.add(objectMapper.readValue(line, PendingEvent.class));
+            } catch (JsonProcessingException ex) {
+                // A torn line (crash mid-append) must not block the rest of the spill forever
+                log.error("Dropping unreadable spilled event: {}", ex.getOriginalMessage());
+            }
+        }
+        return events;
+    }
+
+    // Rewrites the spill file as the unsent batch followed by the unread rest, then swaps it in
+    private void keepFrom(List<String> unsent, BufferedReader rest) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (String line : unsent) {
+                writer.write(line);
+                writer.newLine();
+            }
+            String line;
+            while ((line = rest.readLine()) != null) {
+                if (!line.isBlank()) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long countLines(Path path) throws IOException {
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isBlank()).count();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.estg.infrastructure.event;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+
+/**
+ * A member event already converted to its wire form, waiting to be sent.
+ * Also the line format of the disk spill, so events survive a restart while the broker is down.
+ *
+ * @param typeId     the "__TypeId__" header produced by the message converter
+ * @param payload    the JSON body
+ * @param enqueuedAt epoch millis when the event became publishable (after commit), for publish lag
+ */
+public record PendingEvent(String eventId, String routingKey, String typeId, String payload, long enqueuedAt) {
+
+    public Message toMessage() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageProperties.DEFAULT_DELIVERY_MODE);
+        properties.setMessageId(eventId);
+        properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, typeId);
+        return new Message(payload.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
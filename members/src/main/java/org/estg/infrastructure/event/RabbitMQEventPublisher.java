@@ -1,5 +1,14 @@
 package org.estg.infrastructure.event;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 import org.estg.domain.event.MemberActivatedEvent;
 import org.estg.domain.event.MemberEvent;
 import org.estg.domain.event.MemberProfileUpdatedEvent;
@@ -7,26 +16,101 @@ import org.estg.domain.event.MemberRegisteredEvent;
 import org.estg.domain.event.MemberSuspendedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+/**
+ * Publishes member events to RabbitMQ off the request thread.
+ * Events are converted in the caller, handed over only once the surrounding transaction commits and
+ * queued in a bounded in-memory buffer. A single worker sends them in batches on one channel and waits
+ * for publisher confirms once per batch, retrying with exponential backoff. Batches the broker does not
+ * confirm, and events that do not fit the buffer, are spilled to disk and replayed in order once the
+ * broker is back, so callers never block on the broker. Delivery is at-least-once.
+ * It stops after the web server has drained its in-flight requests; anything those requests publish
+ * once the publisher has stopped goes straight to disk.
+ */
 @Component
 @Profile({"docker", "k8s"})
-public class RabbitMQEventPublisher implements EventPublisher {
+public class RabbitMQEventPublisher implements EventPublisher, SmartLifecycle {
 
     private static final Logger log = LoggerFactory.getLogger(RabbitMQEventPublisher.class);
 
     private final RabbitTemplate rabbitTemplate;
     private final String exchangeName;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<PendingEvent> queue;
+    private final EventSpillStore spillStore;
+
+    private final Counter publishedCounter;
+    private final Counter spilledCounter;
+    private final Timer publishLag;
+
+    private volatile boolean running;
+    // Set by stop(): from then on nothing drains the in-memory queue
+    private volatile boolean stopped;
+    private Thread worker;
+    // Worker-thread state: when the spill may be replayed next, and the current backoff
+    private long nextReplayAt;
+    private Duration replayBackoff;
 
     public RabbitMQEventPublisher(
             RabbitTemplate rabbitTemplate,
-            @Value("${rabbitmq.exchange.name:members-exchange}") String exchangeName
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${rabbitmq.exchange.name:members-exchange}") String exchangeName,
+            @Value("${members.events.queue-capacity:10000}") int queueCapacity,
+            @Value("${members.events.batch-size:100}") int batchSize,
+            @Value("${members.events.confirm-timeout:5s}") Duration confirmTimeout,
+            @Value("${members.events.max-attempts:5}") int maxAttempts,
+            @Value("${members.events.initial-backoff:200ms}") Duration initialBackoff,
+            @Value("${members.events.max-backoff:30s}") Duration maxBackoff,
+            @Value("${members.events.shutdown-timeout:20s}") Duration shutdownTimeout,
+            @Value("${members.events.spill-dir:${java.io.tmpdir}/members-events}") Path spillDir
     ) {
         this.rabbitTemplate = rabbitTemplate;
         this.exchangeName = exchangeName;
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+        this.replayBackoff = initialBackoff;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.spillStore = new EventSpillStore(spillDir, objectMapper);
+
+        Gauge.builder("members.events.queue.depth", queue, BlockingQueue::size)
+                .description("Member events waiting in memory to be published")
+                .register(meterRegistry);
+        Gauge.builder("members.events.spill.pending", spillStore, EventSpillStore::pending)
+                .description("Member events spilled to disk while the broker was unavailable")
+                .register(meterRegistry);
+        this.publishLag = Timer.builder("members.events.publish.lag")
+                .description("Time from transaction commit to broker confirm")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("members.events.published").register(meterRegistry);
+        this.spilledCounter = Counter.builder("members.events.spilled").register(meterRegistry);
     }
 
     @Override
@@ -34,12 +118,172 @@ public class RabbitMQEventPublisher implements EventPublisher {
         if (event == null) {
             return;
         }
+        afterCommit(List.of(toPending(event)));
+    }
+
+    @Override
+    public void publishAll(List<? extends MemberEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        List<PendingEvent> pending = new ArrayList<>(events.size());
+        for (MemberEvent event : events) {
+            pending.add(toPending(event));
+        }
+        afterCommit(pending);
+    }
+
+    // Rolled-back changes must not be announced, so nothing is queued before the commit
+    private void afterCommit(List<PendingEvent> events) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(events);
+            }
+        });
+    }
+
+    private void enqueue(List<PendingEvent> events) {
+        long now = System.currentTimeMillis();
+        List<PendingEvent> overflow = null;
+        for (PendingEvent event : events) {
+            PendingEvent stamped = new PendingEvent(event.eventId(), event.routingKey(), event.typeId(),
+                    event.payload(), now);
+            if (stopped || !queue.offer(stamped)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(stamped);
+            }
+        }
+        if (overflow != null) {
+            spill(overflow);
+            log.warn("Members event queue {}, spilled {} events to disk", stopped ? "stopped" : "full",
+                    overflow.size());
+        }
+        if (stopped) {
+            // Queued while stop() was draining: spill whatever it left behind
+            List<PendingEvent> stranded = new ArrayList<>();
+            queue.drainTo(stranded);
+            if (!stranded.isEmpty()) {
+                spill(stranded);
+            }
+        }
+        log.debug("Members events queued: count={} depth={}", events.size(), queue.size());
+    }
+
+    /**
+     * One worker iteration: replays the disk spill when its backoff has elapsed, then sends at most one
+     * batch from the queue. While anything is spilled, new batches go behind it on disk to keep order.
+     */
+    void drainOnce(long waitMillis) throws InterruptedException {
+        if (spillStore.pending() > 0 && System.currentTimeMillis() >= nextReplayAt) {
+            replaySpill();
+        }
+
+        PendingEvent first = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+
+        if (spillStore.pending() > 0) {
+            spill(batch);
+            return;
+        }
+        if (!sendWithRetry(batch)) {
+            spill(batch);
+            scheduleReplay();
+            log.warn("Members event batch of {} not confirmed after {} attempts, spilled to disk",
+                    batch.size(), maxAttempts);
+        }
+    }
+
+    private void replaySpill() {
+        try {
+            int replayed = spillStore.replay(batchSize, this::sendConfirmed);
+            replayBackoff = initialBackoff;
+            log.info("Replayed {} spilled members events", replayed);
+        } catch (RuntimeException ex) {
+            scheduleReplay();
+            log.warn("Spilled members events not replayed, next attempt in {}: {}", replayBackoff, ex.getMessage());
+        }
+    }
+
+    private boolean sendWithRetry(List<PendingEvent> batch) {
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                sendConfirmed(batch);
+                return true;
+            } catch (RuntimeException ex) {
+                log.debug("Members event batch attempt {} failed: {}", attempt, ex.getMessage());
+                if (attempt == maxAttempts || !running) {
+                    return false;
+                }
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    // The caller spills the batch, so it is not lost
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                backoff = min(backoff.multipliedBy(2), maxBackoff);
+            }
+        }
+        return false;
+    }
+
+    // Sends the batch on one channel and waits once for all confirms; throws if any is missing or nacked
+    private void sendConfirmed(List<PendingEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        rabbitTemplate.invoke(operations -> {
+            for (PendingEvent event : batch) {
+                operations.send(exchangeName, event.routingKey(), event.toMessage());
+            }
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
 
-        String routingKey = mapRoutingKey(event);
+        long now = System.currentTimeMillis();
+        for (PendingEvent event : batch) {
+            publishLag.record(Math.max(0, now - event.enqueuedAt()), TimeUnit.MILLISECONDS);
+        }
+        publishedCounter.increment(batch.size());
+    }
+
+    private void spill(List<PendingEvent> events) {
+        try {
+            spillStore.append(events);
+            spilledCounter.increment(events.size());
+        } catch (RuntimeException ex) {
+            log.error("Could not spill {} members events, they are lost: {}", events.size(), ex.getMessage());
+        }
+    }
 
-        rabbitTemplate.convertAndSend(exchangeName, routingKey, event);
+    private void scheduleReplay() {
+        nextReplayAt = System.currentTimeMillis() + replayBackoff.toMillis();
+        replayBackoff = min(replayBackoff.multipliedBy(2), maxBackoff);
+    }
 
-        log.info("Members event published: routingKey={} eventType={}", routingKey, event.getEventType());
+    private PendingEvent toPending(MemberEvent event) {
+        // Same wire format as convertAndSend: the template's JSON converter and its __TypeId__ header
+        Message message = rabbitTemplate.getMessageConverter().toMessage(event, new MessageProperties());
+        Object typeId = message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        return new PendingEvent(
+                event.getEventId(),
+                mapRoutingKey(event),
+                typeId != null ? typeId.toString() : event.getClass().getName(),
+                new String(message.getBody(), StandardCharsets.UTF_8),
+                0L);
     }
 
     private String mapRoutingKey(MemberEvent event) {
@@ -62,4 +306,95 @@ public class RabbitMQEventPublisher implements EventPublisher {
 
         return "member.unknown";
     }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        stopped = false;
+        worker = new Thread(this::runWorker, "members-event-publisher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                drainOnce(500);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Members event publisher iteration failed", ex);
+            }
+        }
+    }
+
+    /**
+     * Whatever is still queued at shutdown gets one send attempt, otherwise it is kept on disk.
+     * Bounded by members.events.shutdown-timeout, which must stay below the pod's termination grace period.
+     */
+    @Override
+    public synchronized void stop() {
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        running = false;
+        stopped = true;
+        if (worker != null) {
+            // Let an in-flight batch get its confirms, then cut a retry backoff short (the batch is spilled)
+            join(worker, Math.min(confirmTimeout.toMillis(), millisLeft(deadline)));
+            if (worker.isAlive()) {
+                worker.interrupt();
+                join(worker, millisLeft(deadline));
+            }
+            worker = null;
+        }
+
+        List<PendingEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        if (spillStore.pending() > 0 || millisLeft(deadline) < confirmTimeout.toMillis()) {
+            spill(remaining);
+            return;
+        }
+        try {
+            sendConfirmed(remaining);
+        } catch (RuntimeException ex) {
+            spill(remaining);
+            log.warn("Spilled {} unpublished members events at shutdown", remaining.size());
+        }
+    }
+
+    private static void join(Thread thread, long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            thread.join(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long millisLeft(long deadline) {
+        return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Started before and stopped after the web server's graceful shutdown, which runs at a higher phase
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024;
+    }
 }
@@ -0,0 +1,70 @@
+package org.estg.infrastructure.event;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.estg.service.MemberActivityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Feeds schedule-service session outcomes into the member activity counters.
+ * Unreadable messages are dropped; database failures propagate so the broker redelivers.
+ */
+@Component
+@Profile({"docker", "k8s"})
+public class ScheduleEventsListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleEventsListener.class);
+
+    public static final String ROUTING_SESSION_COMPLETED = "schedule.session.completed";
+    public static final String ROUTING_SESSION_CANCELLED = "schedule.session.cancelled";
+
+    private final MemberActivityService memberActivityService;
+    private final ObjectMapper objectMapper;
+
+    public ScheduleEventsListener(MemberActivityService memberActivityService, ObjectMapper objectMapper) {
+        this.memberActivityService = memberActivityService;
+        this.objectMapper = objectMapper;
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queue.session-activity:members.session.activity.queue}")
+    public void onScheduleEvent(Message message) {
+        String routingKey = message.getMessageProperties().getReceivedRoutingKey();
+        MemberActivityService.Outcome outcome;
+        if (ROUTING_SESSION_COMPLETED.equals(routingKey)) {
+            outcome = MemberActivityService.Outcome.COMPLETED;
+        } else if (ROUTING_SESSION_CANCELLED.equals(routingKey)) {
+            outcome = MemberActivityService.Outcome.CANCELLED;
+        } else {
+            return;
+        }
+
+        String eventId;
+        String memberId;
+        LocalDateTime occurredOn;
+        try {
+            JsonNode root = objectMapper.readTree(message.getBody());
+            eventId = root.path("eventId").asText(null);
+            memberId = root.path("memberId").asText(null);
+            // ISO string or [y, m, d, ...] array, depending on the producer's date settings
+            occurredOn = objectMapper.treeToValue(root.get("occurredOn"), LocalDateTime.class);
+        } catch (IOException | IllegalArgumentException ex) {
+            log.error("Dropping unreadable schedule event: routingKey={} error={}", routingKey, ex.getMessage());
+            return;
+        }
+        if (eventId == null || memberId == null || occurredOn == null) {
+            log.warn("Dropping incomplete schedule event: routingKey={} eventId={}", routingKey, eventId);
+            return;
+        }
+
+        memberActivityService.record(eventId, memberId, occurredOn, outcome);
+    }
+}
@@ -0,0 +1,151 @@
+package org.estg.infrastructure.idempotency;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.estg.data.IdempotencyRecordRepository;
+import org.estg.model.IdempotencyRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key values and the successful responses they produced, kept in members_db for a TTL.
+ * A retried write with the same key and the same request body gets the original response back without
+ * running again, on whichever replica it lands; the same key with a different body is rejected (422).
+ * The key is claimed in the write's own transaction, so a failed attempt releases it and can be retried,
+ * and a concurrent retry waits for the first attempt to commit, then replays it.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            @Value("${members.idempotency.ttl:24h}") Duration ttl) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Runs {@code action} once per (scope, key). Without a key the action simply runs.
+     *
+     * @param scope        what the key applies to (endpoint and path variables), so keys do not collide across writes
+     * @param request      the request body; a replay must carry an equal one
+     * @param responseType the response body type, read back from the stored JSON on a replay
+     */
+    public <T> ResponseEntity<T> execute(String scope, @Nullable String key, Object request, Class<T> responseType,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String requestHash = hash(request);
+        return transactionTemplate.execute(tx -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (repository.claim(scope, key, requestHash, now) == 0) {
+                // An expired row not yet purged no longer holds the key
+                if (repository.deleteExpired(scope, key, now.minus(ttl)) == 0
+                        || repository.claim(scope, key, requestHash, now) == 0) {
+                    return replay(repository.findById(new IdempotencyRecord.Key(scope, key)), requestHash, responseType);
+                }
+            }
+
+            // An exception rolls the claim back together with the write
+            ResponseEntity<T> response = action.get();
+            if (response.getStatusCode().is2xxSuccessful()) {
+                repository.complete(scope, key, response.getStatusCode().value(), toJson(response.getBody()));
+            } else {
+                repository.release(scope, key);
+            }
+            return response;
+        });
+    }
+
+    // Keys only need to outlive the clients' retry window
+    @Scheduled(fixedDelayString = "${members.idempotency.purge-interval:3600000}")
+    public void purgeExpired() {
+        Integer deleted = transactionTemplate.execute(tx ->
+                repository.deleteCreatedBefore(LocalDateTime.now().minus(ttl)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(Optional<IdempotencyRecord> stored, String requestHash,
+                                         Class<T> responseType) {
+        if (stored.isEmpty()) {
+            // Released between the claim and the read; the client retries
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        IdempotencyRecord record = stored.get();
+        if (!record.getRequestHash().equals(requestHash)) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        }
+        if (record.getStatus() == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        T body = record.getBody() != null ? fromJson(record.getBody(), responseType) : null;
+        return ResponseEntity.status(record.getStatus()).header(REPLAYED_HEADER, "true").body(body);
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Cannot hash idempotent request", ex);
+        }
+    }
+
+    @Nullable
+    private String toJson(@Nullable Object body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot store idempotent response", ex);
+        }
+    }
+
+    private <T> T fromJson(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot replay idempotent response", ex);
+        }
+    }
+}
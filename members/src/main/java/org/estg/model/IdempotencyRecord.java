@@ -0,0 +1,52 @@
+package org.estg.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An Idempotency-Key claimed by a write, and the response it produced once the write committed.
+ * The primary key is what makes a claim exclusive across replicas; rows are purged after the TTL.
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+@IdClass(IdempotencyRecord.Key.class)
+@Data
+@NoArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "scope", nullable = false)
+    private String scope;
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false)
+    private String key;
+
+    // SHA-256 of the request body as JSON, hex
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    // Null until the claiming transaction stores its response
+    @Column(name = "status")
+    private Integer status;
+
+    @Column(name = "body", columnDefinition = "text")
+    private String body;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String scope;
+        private String key;
+    }
+}
@@ -0,0 +1,57 @@
+package org.estg.model;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One member's session counters for one calendar month, folded from schedule-service events.
+ * A row per active member-month keeps "sessions this month" a primary-key lookup.
+ */
+@Entity
+@Table(name = "member_activity_months")
+@IdClass(MemberActivityMonth.Key.class)
+@Data
+@NoArgsConstructor
+public class MemberActivityMonth {
+
+    @Id
+    @Column(name = "member_id", nullable = false)
+    private String memberId;
+
+    // yyyymm, e.g. 202503; sorts and compares like the month itself
+    @Id
+    @Column(name = "activity_month", nullable = false)
+    private int month;
+
+    @Column(nullable = false)
+    private int completed;
+
+    @Column(nullable = false)
+    private int cancelled;
+
+    public MemberActivityMonth(String memberId, int month) {
+        this.memberId = memberId;
+        this.month = month;
+    }
+
+    public static int monthOf(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    public YearMonth yearMonth() {
+        return YearMonth.of(month / 100, month % 100);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String memberId;
+        private int month;
+    }
+}
@@ -0,0 +1,31 @@
+package org.estg.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running totals of a member's session history, kept up to date as sessions are recorded so the profile
+ * reads one row instead of aggregating every session.
+ */
+@Entity
+@Table(name = "member_session_totals")
+@Data
+@NoArgsConstructor
+public class MemberSessionTotals {
+
+    @Id
+    @Column(name = "member_id", nullable = false)
+    private String memberId;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private long completed;
+
+    @Column(name = "last_session_at")
+    private LocalDateTime lastSessionAt;
+}
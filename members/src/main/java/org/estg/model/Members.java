@@ -17,7 +17,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "members")
+@Table(name = "members", indexes = {
+        @Index(name = "idx_members_id_status", columnList = "id, status"),
+        // Keyset listing: WHERE status = ? ORDER BY full_name, id
+        @Index(name = "idx_members_status_name_id", columnList = "status, full_name, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,28 @@
+package org.estg.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Id of a schedule-service event already folded into the activity counters.
+ * Makes redelivery and replay idempotent; rows are purged once past the redelivery window.
+ */
+@Entity
+@Table(name = "processed_schedule_events",
+        indexes = @Index(name = "idx_processed_schedule_events_at", columnList = "processed_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedScheduleEvent {
+
+    @Id
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
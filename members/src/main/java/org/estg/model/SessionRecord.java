@@ -8,7 +8,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "session_records")
+// member_id leads so one member's history is a contiguous, time-ordered range
+@Table(name = "session_records",
+        indexes = @Index(name = "idx_session_records_member_time", columnList = "member_id, session_date_time, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
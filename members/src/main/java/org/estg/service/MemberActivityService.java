@@ -0,0 +1,148 @@
+package org.estg.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.estg.data.MemberActivityRepository;
+import org.estg.data.ProcessedScheduleEventRepository;
+import org.estg.dto.MemberActivityDTO;
+import org.estg.infrastructure.client.dto.ScheduleSessionResponse;
+import org.estg.model.MemberActivityMonth;
+import org.estg.model.ProcessedScheduleEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-member monthly session counters, maintained from schedule-service completed/cancelled events.
+ * Each event is applied at most once (its id is recorded in the same transaction), so redeliveries are
+ * harmless and replaying the event stream onto empty tables rebuilds the same counters. Schedule-service
+ * keeps its outbox only briefly, so a lost or purged stream is recovered with {@link #rebuild}, which
+ * recounts a member's buckets from the sessions themselves.
+ */
+@Service
+@Slf4j
+public class MemberActivityService {
+
+    public enum Outcome {
+        COMPLETED, CANCELLED
+    }
+
+    private final MemberActivityRepository activityRepository;
+    private final ProcessedScheduleEventRepository processedRepository;
+    private final Duration processedRetention;
+
+    public MemberActivityService(MemberActivityRepository activityRepository,
+                                 ProcessedScheduleEventRepository processedRepository,
+                                 @Value("${members.activity.processed-retention:30d}") Duration processedRetention) {
+        this.activityRepository = activityRepository;
+        this.processedRepository = processedRepository;
+        this.processedRetention = processedRetention;
+    }
+
+    /**
+     * Counts one session outcome in the month it happened.
+     *
+     * @return false when the event was already applied
+     */
+    @Transactional
+    public boolean record(@NonNull String eventId, @NonNull String memberId, @NonNull LocalDateTime occurredOn,
+                          @NonNull Outcome outcome) {
+        if (processedRepository.existsById(eventId)) {
+            log.debug("Schedule event already applied: {}", eventId);
+            return false;
+        }
+        // A concurrent duplicate fails on this primary key at commit and is redelivered, then skipped
+        processedRepository.save(new ProcessedScheduleEvent(eventId, LocalDateTime.now()));
+
+        // Incremented in place: two replicas applying different events to one month both count
+        int month = MemberActivityMonth.monthOf(YearMonth.from(occurredOn));
+        activityRepository.createIfAbsent(memberId, month);
+        if (outcome == Outcome.COMPLETED) {
+            activityRepository.incrementCompleted(memberId, month);
+        } else {
+            activityRepository.incrementCancelled(memberId, month);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the member's buckets with counts taken from their schedule-service sessions. A terminal
+     * session's last update is its completion or cancellation, the same instant the event carries.
+     * An event applied after this commit for a session already in {@code sessions} is counted twice,
+     * so run it once the member's recent outcomes have been delivered.
+     *
+     * @return the number of month buckets written
+     */
+    @Transactional
+    public int rebuild(@NonNull String memberId, @NonNull List<ScheduleSessionResponse> sessions) {
+        Map<Integer, MemberActivityMonth> buckets = new TreeMap<>();
+        for (ScheduleSessionResponse session : sessions) {
+            Outcome outcome = outcomeOf(session.getStatus());
+            if (outcome == null || session.getUpdatedAt() == null) {
+                continue;
+            }
+            int month = MemberActivityMonth.monthOf(YearMonth.from(session.getUpdatedAt()));
+            MemberActivityMonth bucket = buckets.computeIfAbsent(month, m -> new MemberActivityMonth(memberId, m));
+            if (outcome == Outcome.COMPLETED) {
+                bucket.setCompleted(bucket.getCompleted() + 1);
+            } else {
+                bucket.setCancelled(bucket.getCancelled() + 1);
+            }
+        }
+        activityRepository.deleteByMemberId(memberId);
+        activityRepository.saveAll(buckets.values());
+        log.info("Rebuilt activity for member {}: {} sessions, {} months", memberId, sessions.size(), buckets.size());
+        return buckets.size();
+    }
+
+    // Current month plus the previous (months - 1), newest first; reads at most that many rows
+    @Transactional(readOnly = true)
+    public MemberActivityDTO getActivity(@NonNull String memberId, int months) {
+        YearMonth current = YearMonth.now();
+        int fromMonth = MemberActivityMonth.monthOf(current.minusMonths(Math.max(months, 1) - 1L));
+        int currentMonth = MemberActivityMonth.monthOf(current);
+
+        List<MemberActivityDTO.Month> buckets = new ArrayList<>();
+        int completedThisMonth = 0;
+        int cancelledThisMonth = 0;
+        for (MemberActivityMonth row : activityRepository
+                .findByMemberIdAndMonthGreaterThanEqualOrderByMonthDesc(memberId, fromMonth)) {
+            if (row.getMonth() == currentMonth) {
+                completedThisMonth = row.getCompleted();
+                cancelledThisMonth = row.getCancelled();
+            }
+            buckets.add(new MemberActivityDTO.Month(row.yearMonth().toString(), row.getCompleted(), row.getCancelled()));
+        }
+        return new MemberActivityDTO(completedThisMonth, cancelledThisMonth, buckets);
+    }
+
+    private static Outcome outcomeOf(String status) {
+        if ("COMPLETED".equalsIgnoreCase(status)) {
+            return Outcome.COMPLETED;
+        }
+        if ("CANCELLED".equalsIgnoreCase(status)) {
+            return Outcome.CANCELLED;
+        }
+        return null;
+    }
+
+    // Event ids only need to outlive the broker's redelivery window
+    @Scheduled(fixedDelayString = "${members.activity.purge-interval:3600000}")
+    @Transactional
+    public void purgeProcessedEvents() {
+        int deleted = processedRepository.deleteProcessedBefore(LocalDateTime.now().minus(processedRetention));
+        if (deleted > 0) {
+            log.info("Purged {} processed schedule event ids", deleted);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package org.estg.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.estg.data.MembersRepository;
+import org.estg.domain.event.MemberEvent;
+import org.estg.domain.event.MemberRegisteredEvent;
+import org.estg.dto.MemberImportErrorDTO;
+import org.estg.dto.MemberImportResultDTO;
+import org.estg.dto.MembersDTO;
+import org.estg.infrastructure.event.EventPublisher;
+import org.estg.model.Members;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk member registration from a CSV (with header row) or NDJSON stream.
+ * Rows are read lazily and handled in chunks: one email lookup, one batched insert transaction
+ * and one event publish per chunk. A failing row is reported and skipped; when a chunk insert fails,
+ * its rows are retried one transaction each, so only the rows that still fail are rejected.
+ */
+@Service
+@Slf4j
+public class MemberImportService {
+
+    public static final String CSV = "text/csv";
+    public static final String NDJSON = "application/x-ndjson";
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final MembersService membersService;
+    private final MembersRepository memberRepository;
+    private final EventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionOperations transactionOperations;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public MemberImportService(MembersService membersService,
+                               MembersRepository memberRepository,
+                               EventPublisher eventPublisher,
+                               EntityManager entityManager,
+                               TransactionOperations transactionOperations,
+                               ObjectMapper objectMapper,
+                               @Value("${members.import.chunk-size:500}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Import chunk size must be positive");
+        }
+        this.membersService = membersService;
+        this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionOperations = transactionOperations;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public MemberImportResultDTO importMembers(InputStream body, boolean ndjson) throws IOException {
+        ImportState state = new ImportState();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        String[] header = null;
+        long lineNumber = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (!ndjson && header == null) {
+                header = parseHeader(line);
+                continue;
+            }
+
+            state.received++;
+            try {
+                MembersDTO dto = ndjson ? objectMapper.readValue(line, MembersDTO.class) : fromCsv(header, line);
+                chunk.add(new Row(lineNumber, dto));
+            } catch (JsonProcessingException ex) {
+                state.reject(lineNumber, null, "Malformed JSON: " + ex.getOriginalMessage());
+            } catch (IllegalArgumentException | DateTimeException ex) {
+                state.reject(lineNumber, null, ex.getMessage());
+            }
+
+            if (chunk.size() >= chunkSize) {
+                importChunk(chunk, state);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, state);
+        }
+
+        log.info("Member import finished: received={} imported={} failed={}",
+                state.received, state.imported, state.failed);
+        return new MemberImportResultDTO(state.received, state.imported, state.failed, state.errors);
+    }
+
+    private void importChunk(List<Row> rows, ImportState state) {
+        // Same rules as a single registration, plus no email twice within the file
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            try {
+                Members member = membersService.newMemberFrom(row.dto());
+                member.setStatus(Members.MemberStatus.ACTIVE);
+                member.validate();
+                if (!state.seenEmails.add(member.getEmail().getValue())) {
+                    state.reject(row.line(), row.dto().getEmail(), "Duplicate email within import");
+                    continue;
+                }
+                candidates.add(new Candidate(row.line(), member));
+            } catch (IllegalArgumentException ex) {
+                state.reject(row.line(), row.dto().getEmail(), ex.getMessage());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<String> emails = candidates.stream().map(c -> c.member().getEmail().getValue()).toList();
+        Set<String> existing = new HashSet<>(memberRepository.findExistingEmails(emails));
+
+        List<Candidate> accepted = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            String email = candidate.member().getEmail().getValue();
+            if (existing.contains(email)) {
+                state.reject(candidate.line(), email, "Member with email " + email + " already exists");
+            } else {
+                accepted.add(candidate);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<Members> saved;
+        try {
+            saved = transactionOperations.execute(status -> {
+                List<Members> persisted = memberRepository.saveAll(accepted.stream().map(Candidate::member).toList());
+                // Sends the chunk as JDBC batches, then drops it from the persistence context
+                entityManager.flush();
+                entityManager.clear();
+                return persisted;
+            });
+        } catch (DataAccessException | PersistenceException ex) {
+            // Typically an email registered concurrently; the chunk was rolled back as a whole.
+            // entityManager.flush() is not exception-translated, so Hibernate's own exceptions arrive too
+            log.warn("Import chunk of {} rows rolled back, retrying row by row: {}", accepted.size(),
+                    NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+            saved = importRowByRow(accepted, state);
+        }
+        if (saved.isEmpty()) {
+            return;
+        }
+
+        state.imported += saved.size();
+        publishRegistered(saved);
+    }
+
+    private List<Members> importRowByRow(List<Candidate> candidates, ImportState state) {
+        List<Members> saved = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            Members member = candidate.member();
+            // The id generated in the rolled-back chunk was never committed
+            member.setId(null);
+            try {
+                saved.add(transactionOperations.execute(status -> {
+                    Members persisted = memberRepository.save(member);
+                    entityManager.flush();
+                    entityManager.clear();
+                    return persisted;
+                }));
+            } catch (DataAccessException | PersistenceException ex) {
+                state.reject(candidate.line(), member.getEmail().getValue(),
+                        NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+            }
+        }
+        return saved;
+    }
+
+    private void publishRegistered(List<Members> saved) {
+        List<MemberEvent> events = new ArrayList<>(saved.size());
+        for (Members member : saved) {
+            events.add(new MemberRegisteredEvent(member.getId(), member.getEmail().getValue(), member.getFullName()));
+        }
+        try {
+            eventPublisher.publishAll(events);
+        } catch (RuntimeException ex) {
+            // Rows are committed; a broker outage must not turn them into reported failures
+            log.error("Failed to publish {} MemberRegisteredEvent(s) for imported members", events.size(), ex);
+        }
+    }
+
+    private static String[] parseHeader(String line) {
+        String[] header = parseCsvLine(line);
+        for (int i = 0; i < header.length; i++) {
+            header[i] = header[i].trim().toLowerCase(Locale.ROOT);
+        }
+        return header;
+    }
+
+    private static MembersDTO fromCsv(String[] header, String line) {
+        String[] values = parseCsvLine(line);
+        MembersDTO dto = new MembersDTO();
+        for (int i = 0; i < header.length && i < values.length; i++) {
+            String value = values[i].trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (header[i]) {
+                case "fullname" -> dto.setFullName(value);
+                case "email" -> dto.setEmail(value);
+                case "phonenumber" -> dto.setPhoneNumber(value);
+                case "dateofbirth" -> dto.setDateOfBirth(LocalDate.parse(value));
+                case "traininggoal" -> dto.setTrainingGoal(value);
+                case "experiencelevel" -> dto.setExperienceLevel(value);
+                case "address" -> dto.setAddress(value);
+                case "city" -> dto.setCity(value);
+                case "zipcode" -> dto.setZipCode(value);
+                default -> {
+                    // unknown columns are ignored
+                }
+            }
+        }
+        return dto;
+    }
+
+    // RFC 4180 fields on a single line: comma separated, optional double quotes, "" escapes a quote
+    static String[] parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    private record Row(long line, MembersDTO dto) {
+    }
+
+    private record Candidate(long line, Members member) {
+    }
+
+    private static final class ImportState {
+
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<MemberImportErrorDTO> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long failed;
+
+        void reject(long line, String email, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new MemberImportErrorDTO(line, email, message));
+            }
+        }
+    }
+}
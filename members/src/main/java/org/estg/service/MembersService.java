@@ -1,10 +1,26 @@
 package org.estg.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.estg.config.CacheConfig;
+import org.estg.data.MemberSearchRepository;
+import org.estg.data.MemberSessionTotalsRepository;
+import org.estg.data.MemberStatusView;
 import org.estg.data.MembersRepository;
 import org.estg.data.SessionRecordRepository;
+import org.estg.data.SessionStatsView;
 import org.estg.domain.event.MemberActivatedEvent;
 import org.estg.domain.event.MemberProfileUpdatedEvent;
 import org.estg.domain.event.MemberRegisteredEvent;
@@ -13,22 +29,39 @@ import org.estg.domain.valueobject.Address;
 import org.estg.domain.valueobject.Email;
 import org.estg.domain.valueobject.PhoneNumber;
 import org.estg.domain.valueobject.TrainingGoal;
+import org.estg.dto.MemberActivityDTO;
+import org.estg.dto.MemberListPageDTO;
 import org.estg.dto.MemberProfileDTO;
+import org.estg.dto.MemberSearchPageDTO;
+import org.estg.dto.MemberSearchResultDTO;
+import org.estg.dto.MemberStatusBatchResponse;
+import org.estg.dto.MemberStatusDTO;
 import org.estg.dto.MembersDTO;
 import org.estg.dto.SessionRecordDTO;
+import org.estg.dto.SessionRecordPageDTO;
 import org.estg.exceptions.DuplicateMemberException;
 import org.estg.exceptions.MemberNotFoundException;
+import org.estg.infrastructure.client.ScheduleClient;
 import org.estg.infrastructure.event.EventPublisher;
+import org.estg.model.MemberSessionTotals;
 import org.estg.model.Members;
 import org.estg.model.SessionRecord;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -36,38 +69,68 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MembersService {
 
+    public static final int MAX_STATUS_BATCH = 1000;
+    // Shorter terms produce no trigram and cannot use the search indexes
+    public static final int MIN_SEARCH_LENGTH = 3;
+
+    // Open window bounds; both are valid PostgreSQL timestamps
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime WINDOW_END = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Value("${members.sessions.default-limit:50}")
+    private int defaultSessionLimit = 50;
+
+    @Value("${members.sessions.max-limit:500}")
+    private int maxSessionLimit = 500;
+
+    @Value("${members.search.default-limit:20}")
+    private int defaultSearchLimit = 20;
+
+    @Value("${members.search.max-limit:100}")
+    private int maxSearchLimit = 100;
+
+    @Value("${members.profile.recent-sessions:10}")
+    private int profileRecentSessions = 10;
+
+    @Value("${members.profile.activity-months:12}")
+    private int profileActivityMonths = 12;
+
+    @Value("${members.list.max-size:100}")
+    private int maxListSize = 100;
+
+    // Approximate totals for keyset listing, per trainingGoal filter ("" = none)
+    private Cache<String, Long> listTotals = newListTotalsCache(Duration.ofSeconds(60));
+
     @Autowired
     private MembersRepository memberRepository;
 
     @Autowired
     private SessionRecordRepository sessionRecordRepository;
 
+    @Autowired
+    private MemberSessionTotalsRepository sessionTotalsRepository;
+
     @Autowired
     private EventPublisher eventPublisher;
 
-    // RF-MEM-01 - Create Member
-    public MembersDTO registerMember(MembersDTO memberDTO) {
-        log.info("Registering new member: {}", memberDTO.getFullName());
-        Members member = new Members();
+    @Autowired
+    private MemberSearchRepository memberSearchRepository;
 
-        member.setFullName(memberDTO.getFullName());
-        if (memberDTO.getEmail() != null) {
-            member.setEmail(new Email(memberDTO.getEmail()));
-        }
-        member.setDateOfBirth(memberDTO.getDateOfBirth());
+    @Autowired
+    private MemberActivityService memberActivityService;
 
-        if (memberDTO.getPhoneNumber() != null) {
-            member.setPhoneNumber(new PhoneNumber(memberDTO.getPhoneNumber()));
-        }
-        if (memberDTO.getTrainingGoal() != null) {
-            member.setTrainingGoal(new TrainingGoal(memberDTO.getTrainingGoal()));
-        }
+    @Autowired
+    private ScheduleClient scheduleClient;
 
-        member.setExperienceLevel(memberDTO.getExperienceLevel());
+    @Value("${members.list.total-ttl:60s}")
+    void setListTotalTtl(Duration ttl) {
+        this.listTotals = newListTotalsCache(ttl);
+    }
 
-        if (memberDTO.getAddress() != null || memberDTO.getCity() != null || memberDTO.getZipCode() != null) {
-            member.setAddress(new Address(memberDTO.getAddress(), memberDTO.getCity(), memberDTO.getZipCode()));
-        }
+    // RF-MEM-01 - Create Member
+    public MembersDTO registerMember(MembersDTO memberDTO) {
+        log.info("Registering new member: {}", memberDTO.getFullName());
+        Members member = newMemberFrom(memberDTO);
 
         Members savedMember = registerInternal(member);
         log.debug("Member registered with ID: {}", savedMember.getId());
@@ -76,21 +139,49 @@ public class MembersService {
 
     // RF-MEM-02 - Get Member by ID
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.MEMBERS, key = "#id")
     public MembersDTO getMemberById(@NonNull String id) {
         log.debug("Fetching member from DB: {}", id);
         Members member = findMemberOrThrow(id);
         return toDto(member);
     }
 
-    // RF-MEM-07 - View Member Profile
+    // RF-MEM-07 - View Member Profile (latest sessions + counters read from the member's totals row)
     @Transactional(readOnly = true)
-    public MemberProfileDTO getProfile(@NonNull String id) {
+    public MemberProfileDTO getProfile(@NonNull String id, @Nullable Integer recent) {
         Members member = findMemberOrThrow(id);
-        List<SessionRecordDTO> sessions = getMemberSessions(id);
-        return new MemberProfileDTO(toDto(member), sessions);
+        int size = (recent == null || recent < 0) ? profileRecentSessions : Math.min(recent, maxSessionLimit);
+
+        List<SessionRecordDTO> sessions = size == 0
+                ? new ArrayList<>()
+                : sessionRecordRepository.findPageByMemberId(id, WINDOW_START, WINDOW_END, Long.MIN_VALUE, Limit.of(size));
+
+        MemberActivityDTO activity = memberActivityService.getActivity(id, profileActivityMonths);
+        Optional<MemberSessionTotals> totals = sessionTotalsRepository.findById(id);
+        if (totals.isPresent()) {
+            return new MemberProfileDTO(toDto(member), sessions, totals.get().getTotal(), totals.get().getCompleted(),
+                    totals.get().getLastSessionAt(), activity);
+        }
+
+        // No session recorded since the totals were introduced: count the (older) history once more
+        SessionStatsView stats = sessionRecordRepository.findStatsByMemberId(id);
+        return new MemberProfileDTO(toDto(member), sessions,
+                stats != null && stats.getTotal() != null ? stats.getTotal() : 0L,
+                stats != null && stats.getCompleted() != null ? stats.getCompleted() : 0L,
+                stats != null ? stats.getLastSessionAt() : null,
+                activity);
+    }
+
+    // Recounts the activity buckets from schedule-service; no transaction is held across the remote call
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberActivityDTO rebuildActivity(@NonNull String id) {
+        findMemberOrThrow(id);
+        memberActivityService.rebuild(id, scheduleClient.getMemberSessions(id));
+        return memberActivityService.getActivity(id, profileActivityMonths);
     }
 
     // RF-MEM-03 - Update Member (partial update)
+    @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id")
     public MembersDTO updateMember(@NonNull String id, MembersDTO memberDTO) {
         Members member = findMemberOrThrow(id);
 
@@ -141,6 +232,7 @@ public class MembersService {
     }
 
     // RF-MEM-04 - Activate Member
+    @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id")
     public MembersDTO activateMember(@NonNull String id) {
         Members member = findMemberOrThrow(id);
         Members savedMember = activateInternal(member);
@@ -148,6 +240,7 @@ public class MembersService {
     }
 
     // RF-MEM-04 - Suspend Member
+    @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id")
     public void suspendMember(@NonNull String id) {
         Members member = findMemberOrThrow(id);
         member.suspend();
@@ -157,6 +250,7 @@ public class MembersService {
     }
 
     // RF-MEM-04 - Deactivate Member (soft delete)
+    @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id")
     public MembersDTO deactivateMember(@NonNull String id) {
         Members member = findMemberOrThrow(id);
         member.deactivate();
@@ -169,29 +263,165 @@ public class MembersService {
         return toDto(saved);
     }
 
-    // RF-MEM-05 - List Members (pagination)
+    // RF-MEM-05 - List Members (pagination, rows projected straight into MembersDTO)
     @Transactional(readOnly = true)
     public Page<MembersDTO> getMembersByPage(@NonNull Pageable pageable) {
-        return memberRepository.findByStatus(Members.MemberStatus.ACTIVE, pageable).map(this::toDto);
+        return memberRepository.findListByStatus(Members.MemberStatus.ACTIVE, pageable);
     }
 
     // RF-MEM-06 - Filter by Training Goal
     @Transactional(readOnly = true)
     public Page<MembersDTO> getMembersByTrainingGoal(@NonNull String trainingGoal, @NonNull Pageable pageable) {
-        return memberRepository.findByTrainingGoal(trainingGoal, pageable).map(this::toDto);
+        return memberRepository.findListByTrainingGoal(trainingGoal, pageable);
     }
 
-    // RF-MEM-07 - Session History
+    // RF-MEM-05/06 - Count-free listing for infinite scroll: keyset over (fullName, id), no count(*) per page.
+    // The total, when asked for, comes from a short-lived cache instead of counting on every request.
+    @Transactional(readOnly = true)
+    public MemberListPageDTO getMembersAfter(@Nullable String trainingGoal, @Nullable String cursor, int size,
+                                             boolean withTotal) {
+        int limit = size <= 0 ? 10 : Math.min(size, maxListSize);
+        String goal = trainingGoal == null ? "" : trainingGoal.trim();
+
+        // Empty strings sort before every name and id, so they start the first page
+        String afterName = "";
+        String afterId = "";
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            afterName = position[0];
+            afterId = position[1];
+        }
+
+        // One extra row tells whether another page exists
+        List<MembersDTO> rows = memberRepository.findListAfter(goal, afterName, afterId, Limit.of(limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<MembersDTO> items = hasMore ? new ArrayList<>(rows.subList(0, limit)) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            MembersDTO last = items.get(items.size() - 1);
+            nextCursor = encodeCursor(last.getFullName() + "|" + last.getId());
+        }
+        Long total = withTotal ? listTotals.get(goal, memberRepository::countActive) : null;
+        return new MemberListPageDTO(items, nextCursor, total);
+    }
+
+    // RF-MEM-07 - Session History (newest first, capped at the maximum page size)
     @Transactional(readOnly = true)
     public List<SessionRecordDTO> getMemberSessions(@NonNull String memberId) {
+        return getMemberSessionsPage(memberId, null, null, null, maxSessionLimit).getItems();
+    }
+
+    // Session History keyset page over (sessionDateTime, id), newest first, within the optional [from, to) window
+    @Transactional(readOnly = true)
+    public SessionRecordPageDTO getMemberSessionsPage(@NonNull String memberId, @Nullable LocalDateTime from,
+                                                      @Nullable LocalDateTime to, @Nullable String cursor,
+                                                      @Nullable Integer limit) {
         if (!memberRepository.existsById(memberId)) {
             throw new MemberNotFoundException("Member not found with id: " + memberId);
         }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        int size = (limit == null || limit <= 0) ? defaultSessionLimit : Math.min(limit, maxSessionLimit);
+
+        // The window's upper bound is the first page's cursor: strictly before 'to', any id
+        LocalDateTime beforeTime = to != null ? to : WINDOW_END;
+        long beforeId = Long.MIN_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeSessionCursor(cursor);
+            beforeTime = LocalDateTime.parse(position[0]);
+            beforeId = Long.parseLong(position[1]);
+        }
+
+        // One extra row tells whether another page exists
+        List<SessionRecordDTO> rows = sessionRecordRepository.findPageByMemberId(memberId,
+                from != null ? from : WINDOW_START, beforeTime, beforeId, Limit.of(size + 1));
+
+        boolean hasMore = rows.size() > size;
+        List<SessionRecordDTO> items = hasMore ? new ArrayList<>(rows.subList(0, size)) : rows;
+
+        return new SessionRecordPageDTO(items, hasMore ? encodeSessionCursor(items.get(items.size() - 1)) : null);
+    }
+
+    // Front-desk lookup by partial name, email or phone; best matches first, keyset-paged on (score, id)
+    @Transactional(readOnly = true)
+    public MemberSearchPageDTO searchMembers(@Nullable String q, @Nullable String cursor, @Nullable Integer limit) {
+        String term = q == null ? "" : q.trim().toLowerCase(Locale.ROOT);
+        if (term.length() < MIN_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("Search term must have at least " + MIN_SEARCH_LENGTH + " characters");
+        }
+        int size = (limit == null || limit <= 0) ? defaultSearchLimit : Math.min(limit, maxSearchLimit);
+        String digits = term.replaceAll("\\D", "");
+        if (digits.length() < MIN_SEARCH_LENGTH) {
+            digits = "";
+        }
+
+        Float afterScore = null;
+        String afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            try {
+                afterScore = Float.parseFloat(position[0]);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid cursor", ex);
+            }
+            afterId = position[1];
+        }
+
+        // One extra row tells whether another page exists
+        List<MemberSearchResultDTO> rows = memberSearchRepository.search(term, digits, afterScore, afterId, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<MemberSearchResultDTO> page = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            MemberSearchResultDTO last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getScore() + "|" + last.getId());
+        }
+        return new MemberSearchPageDTO(new ArrayList<>(page), nextCursor);
+    }
 
-        return sessionRecordRepository.findByMemberIdOrderBySessionDateTimeDesc(memberId)
-                .stream()
-                .map(session -> toSessionDto(session, memberId))
-                .collect(Collectors.toList());
+    // Member status only (no profile, no session history) - used by schedule/workout on every validation.
+    // Not cached: an index-only read, and a per-replica copy would outlive a suspension on the other replicas.
+    @Transactional(readOnly = true)
+    public Optional<MemberStatusDTO> findMemberStatus(@NonNull String id) {
+        return memberRepository.findStatusById(id).map(this::toStatusDto);
+    }
+
+    // Bulk status lookup in one query; results follow the request order, duplicates are collapsed
+    @Transactional(readOnly = true)
+    public MemberStatusBatchResponse getMemberStatuses(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one member id is required");
+        }
+
+        Set<String> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.size() > MAX_STATUS_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_STATUS_BATCH + " member ids per request");
+        }
+
+        if (requested.isEmpty()) {
+            return new MemberStatusBatchResponse(new ArrayList<>(), new ArrayList<>());
+        }
+
+        Map<String, MemberStatusDTO> found = new HashMap<>();
+        for (MemberStatusView view : memberRepository.findStatusesByIdIn(requested)) {
+            found.put(view.getId(), toStatusDto(view));
+        }
+
+        List<MemberStatusDTO> statuses = new ArrayList<>(found.size());
+        List<String> notFound = new ArrayList<>();
+        for (String id : requested) {
+            MemberStatusDTO status = found.get(id);
+            if (status != null) {
+                statuses.add(status);
+            } else {
+                notFound.add(id);
+            }
+        }
+        return new MemberStatusBatchResponse(statuses, notFound);
     }
 
     public SessionRecordDTO addSessionToMember(@NonNull String memberId, SessionRecordDTO sessionDTO) {
@@ -202,9 +432,13 @@ public class MembersService {
             throw new IllegalArgumentException("Failed to create session from DTO");
         }
         session.validate();
+        // Seeded before the new session can be flushed, so it is counted once, by addSession
+        sessionTotalsRepository.seedIfAbsent(memberId);
         member.addSession(session);
 
         SessionRecord savedSession = sessionRecordRepository.save(session);
+        sessionTotalsRepository.addSession(memberId, savedSession.isCompleted() ? 1 : 0,
+                savedSession.getSessionDateTime());
         return toSessionDto(savedSession, memberId);
     }
 
@@ -212,6 +446,31 @@ public class MembersService {
     // Internal domain operations
     // --------------------
 
+    // Maps a registration request onto a new, not yet persisted member (also used by the bulk import)
+    Members newMemberFrom(MembersDTO memberDTO) {
+        Members member = new Members();
+
+        member.setFullName(memberDTO.getFullName());
+        if (memberDTO.getEmail() != null) {
+            member.setEmail(new Email(memberDTO.getEmail()));
+        }
+        member.setDateOfBirth(memberDTO.getDateOfBirth());
+
+        if (memberDTO.getPhoneNumber() != null) {
+            member.setPhoneNumber(new PhoneNumber(memberDTO.getPhoneNumber()));
+        }
+        if (memberDTO.getTrainingGoal() != null) {
+            member.setTrainingGoal(new TrainingGoal(memberDTO.getTrainingGoal()));
+        }
+
+        member.setExperienceLevel(memberDTO.getExperienceLevel());
+
+        if (memberDTO.getAddress() != null || memberDTO.getCity() != null || memberDTO.getZipCode() != null) {
+            member.setAddress(new Address(memberDTO.getAddress(), memberDTO.getCity(), memberDTO.getZipCode()));
+        }
+        return member;
+    }
+
     private Members registerInternal(@NonNull Members candidate) {
         if (candidate.getEmail() == null) {
             throw new IllegalArgumentException("Email is required");
@@ -245,6 +504,10 @@ public class MembersService {
     // Helpers
     // --------------------
 
+    private static Cache<String, Long> newListTotalsCache(Duration ttl) {
+        return Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(1000).build();
+    }
+
     private Members findMemberOrThrow(@NonNull String id) {
         return memberRepository.findById(id)
                 .orElseThrow(() -> new MemberNotFoundException("Member not found with id: " + id));
@@ -275,6 +538,44 @@ public class MembersService {
         return dto;
     }
 
+    private MemberStatusDTO toStatusDto(MemberStatusView view) {
+        return new MemberStatusDTO(view.getId(), view.getStatus() != null ? view.getStatus().name() : null);
+    }
+
+    private static String encodeSessionCursor(SessionRecordDTO session) {
+        return encodeCursor(session.getSessionDateTime() + "|" + session.getId());
+    }
+
+    private static String[] decodeSessionCursor(String cursor) {
+        String[] position = decodeCursor(cursor);
+        try {
+            LocalDateTime.parse(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    // Opaque keyset cursors: base64url of "<sort value>|<id>"
+    private static String encodeCursor(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Split at the last '|': ids never contain one, sort values (member names) may
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new String[] {raw.substring(0, separator), raw.substring(separator + 1)};
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
     @Nullable
     private SessionRecordDTO toSessionDto(@Nullable SessionRecord session, @NonNull String memberId) {
         if (session == null) {
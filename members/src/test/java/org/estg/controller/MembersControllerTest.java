@@ -1,6 +1,8 @@
 package org.estg.controller;
 
+import org.estg.dto.MemberStatusDTO;
 import org.estg.dto.MembersDTO;
+import org.estg.infrastructure.idempotency.IdempotencyStore;
 import org.estg.service.MembersService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,11 +15,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +37,9 @@ class MembersControllerTest {
     @Mock
     private MembersService membersService;
     
+    @Mock
+    private IdempotencyStore idempotencyStore;
+    
     @InjectMocks
     private MembersController controller;
     
@@ -61,6 +71,10 @@ class MembersControllerTest {
         savedMemberDTO.setStatus("ACTIVE");
         
         log.info("✅ DTOs criados para testes");
+        
+        // O store executa a ação tal como sem chave; o comportamento de replay é testado em IdempotencyStoreTest
+        lenient().when(idempotencyStore.execute(anyString(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
     }
     
     @Test
@@ -76,7 +90,7 @@ class MembersControllerTest {
         
         // ACT
         log.info("\n⚡ ACT - Executando controller.registerMember()");
-        ResponseEntity<MembersDTO> response = controller.registerMember(memberDTO);
+        ResponseEntity<MembersDTO> response = controller.registerMember(null, memberDTO);
         log.info("  ✓ Controller executado");
         
         // ASSERT
@@ -105,6 +119,27 @@ class MembersControllerTest {
         log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
     }
     
+    @Test
+    @DisplayName("POST /api/members/register - Idempotency-Key passa pelo IdempotencyStore com o âmbito do endpoint")
+    void shouldRunRegistrationThroughIdempotencyStore() {
+        log.info("\n🧪 TEST: shouldRunRegistrationThroughIdempotencyStore");
+        log.info("────────────────────────────────────────");
+        
+        // ARRANGE
+        when(membersService.registerMember(any(MembersDTO.class))).thenReturn(savedMemberDTO);
+        
+        // ACT
+        ResponseEntity<MembersDTO> response = controller.registerMember("key-1", memberDTO);
+        
+        // ASSERT
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        verify(idempotencyStore, times(1))
+                .execute(eq("register"), eq("key-1"), same(memberDTO), eq(MembersDTO.class), any());
+        log.info("  ✓ Chave, âmbito e tipo de resposta entregues ao store (replay em IdempotencyStoreTest)");
+        
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+    
     @Test
     @DisplayName("PUT /api/members/{id}/update - Deve retornar 200 OK ao atualizar membro")
     void shouldReturn200WhenUpdatingMember() {
@@ -191,4 +226,69 @@ class MembersControllerTest {
         
         log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
     }
+    
+    @Test
+    @DisplayName("GET /api/members/{id}/status - Deve retornar 200 OK com ETag do status")
+    void shouldReturnStatusWithETag() {
+        log.info("\n🧪 TEST: shouldReturnStatusWithETag");
+        log.info("────────────────────────────────────────");
+        
+        // ARRANGE
+        when(membersService.findMemberStatus("member-001"))
+                .thenReturn(Optional.of(new MemberStatusDTO("member-001", "ACTIVE")));
+        log.info("  ✓ Mock membersService.findMemberStatus() → ACTIVE");
+        
+        // ACT
+        ResponseEntity<MemberStatusDTO> response = controller.getStatus("member-001",
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/members/member-001/status")));
+        
+        // ASSERT
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"ACTIVE\"", response.getHeaders().getETag());
+        assertEquals("ACTIVE", java.util.Objects.requireNonNull(response.getBody()).getStatus());
+        log.info("  ✓ Status HTTP: {} ETag: {}", response.getStatusCode().value(), response.getHeaders().getETag());
+        
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+    
+    @Test
+    @DisplayName("GET /api/members/{id}/status - Deve retornar 304 quando If-None-Match coincide")
+    void shouldReturn304WhenStatusUnchanged() {
+        log.info("\n🧪 TEST: shouldReturn304WhenStatusUnchanged");
+        log.info("────────────────────────────────────────");
+        
+        // ARRANGE
+        when(membersService.findMemberStatus("member-001"))
+                .thenReturn(Optional.of(new MemberStatusDTO("member-001", "ACTIVE")));
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest("GET", "/api/members/member-001/status");
+        httpRequest.addHeader("If-None-Match", "\"ACTIVE\"");
+        log.info("  ✓ Pedido com If-None-Match: \"ACTIVE\"");
+        
+        // ACT
+        ResponseEntity<MemberStatusDTO> response = controller.getStatus("member-001", new ServletWebRequest(httpRequest));
+        
+        // ASSERT
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        log.info("  ✓ Status HTTP: {} (NOT_MODIFIED) sem body", response.getStatusCode().value());
+        
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+    
+    @Test
+    @DisplayName("GET /api/members/{id}/status - Deve retornar 404 quando Member não existe")
+    void shouldReturn404WhenStatusNotFound() {
+        log.info("\n🧪 TEST: shouldReturn404WhenStatusNotFound");
+        log.info("────────────────────────────────────────");
+        
+        when(membersService.findMemberStatus("member-404")).thenReturn(Optional.empty());
+        
+        ResponseEntity<MemberStatusDTO> response = controller.getStatus("member-404",
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/members/member-404/status")));
+        
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        log.info("  ✓ Status HTTP: {} (NOT_FOUND)", response.getStatusCode().value());
+        
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
 }
@@ -0,0 +1,211 @@
+package org.estg.infrastructure.event;
+
+import org.estg.domain.event.MemberRegisteredEvent;
+import org.estg.domain.event.MemberSuspendedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RabbitMQEventPublisher Tests")
+class RabbitMQEventPublisherTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RabbitMQEventPublisherTest.class);
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @TempDir
+    private Path spillDir;
+
+    private MeterRegistry meterRegistry;
+    private RabbitMQEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        log.info("═══════════════════════════════════════");
+        log.info("🔧 Iniciando Setup do Teste do Publisher");
+        log.info("═══════════════════════════════════════");
+
+        lenient().when(rabbitTemplate.getMessageConverter()).thenReturn(new Jackson2JsonMessageConverter());
+        // Executa o callback sobre o próprio template, como invoke() faria num canal dedicado
+        lenient().when(rabbitTemplate.invoke(any())).thenAnswer(inv ->
+                inv.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new RabbitMQEventPublisher(rabbitTemplate, new ObjectMapper(), meterRegistry,
+                "members-exchange", 10, 10, Duration.ofSeconds(5), 1, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(20), spillDir);
+    }
+
+    @Test
+    @DisplayName("Deve enfileirar eventos apenas após o commit da transação")
+    void shouldQueueEventsOnlyAfterCommit() {
+        log.info("\n🧪 TEST: shouldQueueEventsOnlyAfterCommit");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // ACT - publicar dentro de uma "transação" não envia nem enfileira nada
+            publisher.publish(new MemberRegisteredEvent("m-1", "jose@gymhub.com", "Jose Soares"));
+
+            // ASSERT
+            assertEquals(0.0, depth());
+            verify(rabbitTemplate, never()).invoke(any());
+            log.info("  ✓ Antes do commit: fila vazia, nenhum envio");
+
+            // ACT - commit
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // ASSERT
+            assertEquals(1.0, depth());
+            log.info("  ✓ Após o commit: evento na fila (depth={})", depth());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote num canal e esperar confirmações uma vez")
+    void shouldSendBatchAndWaitForConfirmsOnce() throws InterruptedException {
+        log.info("\n🧪 TEST: shouldSendBatchAndWaitForConfirmsOnce");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE
+        MemberRegisteredEvent registered = new MemberRegisteredEvent("m-1", "jose@gymhub.com", "Jose Soares");
+        publisher.publishAll(List.of(registered, new MemberSuspendedEvent("m-2", "Pagamento em atraso")));
+
+        // ACT
+        publisher.drainOnce(0);
+
+        // ASSERT
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq("members-exchange"), eq("member.member_registered"), sent.capture());
+        verify(rabbitTemplate).send(eq("members-exchange"), eq("member.member_suspended"), any(Message.class));
+        verify(rabbitTemplate, times(1)).waitForConfirmsOrDie(5_000L);
+
+        Message message = sent.getValue();
+        assertEquals(registered.getEventId(), message.getMessageProperties().getMessageId());
+        assertEquals(MemberRegisteredEvent.class.getName(), message.getMessageProperties().getHeader("__TypeId__"));
+        assertTrue(new String(message.getBody(), StandardCharsets.UTF_8).contains("\"email\":\"jose@gymhub.com\""));
+        assertEquals(0.0, depth());
+        assertEquals(2.0, meterRegistry.get("members.events.published").counter().count());
+        assertEquals(2L, meterRegistry.get("members.events.publish.lag").timer().count());
+        log.info("  ✓ 2 eventos enviados, 1 waitForConfirmsOrDie, mesmo formato JSON do convertAndSend");
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    @Test
+    @DisplayName("Deve guardar em disco com o broker em baixo e reenviar quando volta")
+    void shouldSpillToDiskWhileBrokerIsDownAndReplayLater() throws InterruptedException {
+        log.info("\n🧪 TEST: shouldSpillToDiskWhileBrokerIsDownAndReplayLater");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE - broker sem confirmações
+        doThrow(new AmqpTimeoutException("no confirm"))
+                .doNothing()
+                .when(rabbitTemplate).waitForConfirmsOrDie(anyLong());
+        MemberSuspendedEvent first = new MemberSuspendedEvent("m-1", "Pagamento em atraso");
+        publisher.publish(first);
+
+        // ACT
+        publisher.drainOnce(0);
+
+        // ASSERT
+        assertEquals(1.0, spillPending());
+        assertEquals(1.0, meterRegistry.get("members.events.spilled").counter().count());
+        log.info("  ✓ Lote não confirmado guardado em disco (spill={})", spillPending());
+
+        // ACT - novo evento entra atrás do spill; broker volta
+        MemberSuspendedEvent second = new MemberSuspendedEvent("m-2", "Pagamento em atraso");
+        publisher.publish(second);
+        publisher.drainOnce(0);
+
+        // ASSERT - 1ª tentativa falhada + reenvio do spill + evento novo
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, times(3)).send(eq("members-exchange"), eq("member.member_suspended"), sent.capture());
+        assertEquals(List.of(first.getEventId(), first.getEventId(), second.getEventId()),
+                sent.getAllValues().stream().map(m -> m.getMessageProperties().getMessageId()).toList());
+        assertEquals(0.0, spillPending());
+        assertEquals(2.0, meterRegistry.get("members.events.published").counter().count());
+        log.info("  ✓ Spill reenviado por ordem e ficheiro limpo");
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    @Test
+    @DisplayName("Deve guardar em disco os eventos por enviar quando o broker falha no shutdown")
+    void shouldSpillQueuedEventsWhenShutdownSendFails() {
+        log.info("\n🧪 TEST: shouldSpillQueuedEventsWhenShutdownSendFails");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE - evento em fila, broker sem confirmações
+        doThrow(new AmqpTimeoutException("no confirm")).when(rabbitTemplate).waitForConfirmsOrDie(anyLong());
+        publisher.publish(new MemberSuspendedEvent("m-1", "Pagamento em atraso"));
+        publisher.start();
+
+        // ACT
+        long started = System.nanoTime();
+        publisher.stop();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // ASSERT - nada perdido e dentro do limite de shutdown
+        assertEquals(0.0, depth());
+        assertEquals(1.0, spillPending());
+        assertTrue(elapsedMillis < 20_000, "stop() took " + elapsedMillis + " ms");
+        log.info("  ✓ Evento guardado em disco, stop() em {} ms", elapsedMillis);
+
+        // ACT - pedido ainda em curso publica depois do stop()
+        publisher.publish(new MemberSuspendedEvent("m-2", "Pagamento em atraso"));
+
+        // ASSERT - vai direto para disco, não fica em memória sem worker
+        assertEquals(0.0, depth());
+        assertEquals(2.0, spillPending());
+        assertTrue(publisher.getPhase() < WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE);
+        log.info("  ✓ Evento publicado após o stop() guardado em disco; para depois do graceful shutdown");
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    private double depth() {
+        return meterRegistry.get("members.events.queue.depth").gauge().value();
+    }
+
+    private double spillPending() {
+        return meterRegistry.get("members.events.spill.pending").gauge().value();
+    }
+}
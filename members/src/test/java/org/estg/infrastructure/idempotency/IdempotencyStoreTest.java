@@ -0,0 +1,144 @@
+package org.estg.infrastructure.idempotency;
+
+import org.estg.data.IdempotencyRecordRepository;
+import org.estg.data.MembersRepository;
+import org.estg.dto.MembersDTO;
+import org.estg.model.IdempotencyRecord;
+import org.estg.service.MembersService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("IdempotencyStore Tests")
+class IdempotencyStoreTest {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStoreTest.class);
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MembersService membersService;
+
+    @Autowired
+    private MembersRepository membersRepository;
+
+    // Two replicas: separate store instances over the same members_db
+    private IdempotencyStore replicaA;
+    private IdempotencyStore replicaB;
+
+    @BeforeEach
+    void setUp() {
+        log.info("═══════════════════════════════════════");
+        log.info("🔧 Iniciando Setup do Teste de Idempotência");
+        log.info("═══════════════════════════════════════");
+
+        replicaA = new IdempotencyStore(recordRepository, transactionManager, objectMapper, Duration.ofHours(1));
+        replicaB = new IdempotencyStore(recordRepository, transactionManager, objectMapper, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Deve registar uma só vez quando o retry com a mesma chave chega a outra réplica")
+    void shouldWriteOnceWhenRetriedOnAnotherReplica() {
+        log.info("\n🧪 TEST: shouldWriteOnceWhenRetriedOnAnotherReplica");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE
+        AtomicInteger writes = new AtomicInteger();
+        long membersBefore = membersRepository.count();
+
+        // ACT - 1ª tentativa na réplica A, retry do gateway na réplica B
+        ResponseEntity<MembersDTO> first = replicaA.execute("register", "key-1", newMember("ana.idem@gymhub.com"),
+                MembersDTO.class, () -> register(writes, "ana.idem@gymhub.com"));
+        ResponseEntity<MembersDTO> replay = replicaB.execute("register", "key-1", newMember("ana.idem@gymhub.com"),
+                MembersDTO.class, () -> register(writes, "ana.idem@gymhub.com"));
+
+        // ASSERT
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertEquals(HttpStatus.CREATED, replay.getStatusCode());
+        assertEquals("true", replay.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+        assertEquals(first.getBody().getId(), replay.getBody().getId());
+        assertEquals(1, writes.get());
+        assertEquals(membersBefore + 1, membersRepository.count());
+        log.info("  ✓ Réplica B devolve 201 com o membro {}, 1 escrita", replay.getBody().getId());
+
+        // ACT - mesma chave com outro corpo
+        ResponseEntity<MembersDTO> mismatch = replicaB.execute("register", "key-1", newMember("outro@gymhub.com"),
+                MembersDTO.class, () -> register(writes, "outro@gymhub.com"));
+
+        // ASSERT
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, mismatch.getStatusCode());
+        assertEquals(1, writes.get());
+        log.info("  ✓ Chave reutilizada com outro pedido → 422");
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    @Test
+    @DisplayName("Falha não fica guardada e o retry volta a executar")
+    void shouldReleaseKeyWhenWriteFails() {
+        log.info("\n🧪 TEST: shouldReleaseKeyWhenWriteFails");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE - 1ª tentativa falha (ex.: BD indisponível), 2ª tem sucesso
+        AtomicInteger writes = new AtomicInteger();
+
+        // ACT
+        assertThrows(IllegalStateException.class, () -> replicaA.execute("register", "key-2",
+                newMember("rui.idem@gymhub.com"), MembersDTO.class, () -> {
+                    throw new IllegalStateException("db down");
+                }));
+        ResponseEntity<MembersDTO> retry = replicaB.execute("register", "key-2", newMember("rui.idem@gymhub.com"),
+                MembersDTO.class, () -> register(writes, "rui.idem@gymhub.com"));
+
+        // ASSERT
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertNull(retry.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+        assertEquals(1, writes.get());
+        IdempotencyRecord stored = recordRepository.findById(new IdempotencyRecord.Key("register", "key-2"))
+                .orElseThrow();
+        assertEquals(201, stored.getStatus());
+        log.info("  ✓ Reserva desfeita com a transação, retry executa e guarda a resposta");
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    private ResponseEntity<MembersDTO> register(AtomicInteger writes, String email) {
+        writes.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body(membersService.registerMember(newMember(email)));
+    }
+
+    private static MembersDTO newMember(String email) {
+        MembersDTO dto = new MembersDTO();
+        dto.setFullName("Membro Idempotente");
+        dto.setEmail(email);
+        dto.setPhoneNumber("8240047");
+        dto.setDateOfBirth(LocalDate.of(1990, 5, 15));
+        dto.setExperienceLevel("INTERMEDIARIO");
+        return dto;
+    }
+}
@@ -0,0 +1,166 @@
+package org.estg.service;
+
+import org.estg.data.MemberActivityRepository;
+import org.estg.data.ProcessedScheduleEventRepository;
+import org.estg.dto.MemberActivityDTO;
+import org.estg.infrastructure.client.dto.ScheduleSessionResponse;
+import org.estg.model.MemberActivityMonth;
+import org.estg.model.ProcessedScheduleEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberActivityService Tests")
+class MemberActivityServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberActivityServiceTest.class);
+
+    @Mock
+    private MemberActivityRepository activityRepository;
+
+    @Mock
+    private ProcessedScheduleEventRepository processedRepository;
+
+    private MemberActivityService activityService;
+
+    @BeforeEach
+    void setUp() {
+        log.info("═══════════════════════════════════════");
+        log.info("🔧 Iniciando Setup do Teste de Atividade");
+        log.info("═══════════════════════════════════════");
+
+        activityService = new MemberActivityService(activityRepository, processedRepository, Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("Deve contar a sessão no mês do evento e ignorar a reentrega")
+    void shouldCountSessionInItsMonthAndSkipRedelivery() {
+        log.info("\n🧪 TEST: shouldCountSessionInItsMonthAndSkipRedelivery");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE - o evento é novo na 1ª entrega
+        when(processedRepository.existsById("evt-1")).thenReturn(false).thenReturn(true);
+        LocalDateTime completedAt = LocalDateTime.of(2025, 3, 10, 18, 0);
+
+        // ACT
+        boolean applied = activityService.record("evt-1", "member-001", completedAt,
+                MemberActivityService.Outcome.COMPLETED);
+        boolean reapplied = activityService.record("evt-1", "member-001", completedAt,
+                MemberActivityService.Outcome.COMPLETED);
+
+        // ASSERT
+        assertTrue(applied);
+        assertFalse(reapplied);
+        log.info("  ✓ 1ª entrega aplicada, reentrega ignorada");
+
+        // VERIFY - id do evento registado na mesma transação, contador incrementado na BD uma só vez
+        ArgumentCaptor<ProcessedScheduleEvent> processed = ArgumentCaptor.forClass(ProcessedScheduleEvent.class);
+        verify(processedRepository, times(1)).save(processed.capture());
+        assertEquals("evt-1", processed.getValue().getEventId());
+        InOrder order = inOrder(activityRepository);
+        order.verify(activityRepository).createIfAbsent("member-001", 202503);
+        order.verify(activityRepository).incrementCompleted("member-001", 202503);
+        verify(activityRepository, never()).incrementCancelled(any(), anyInt());
+        verify(activityRepository, never()).findById(any());
+        verify(activityRepository, never()).save(any());
+        log.info("  ✓ 1 evento processado, 1 bucket atualizado");
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    @Test
+    @DisplayName("Deve devolver o mês corrente e os buckets mensais")
+    void shouldReturnCurrentMonthAndMonthlyBuckets() {
+        log.info("\n🧪 TEST: shouldReturnCurrentMonthAndMonthlyBuckets");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE
+        YearMonth now = YearMonth.now();
+        MemberActivityMonth current = new MemberActivityMonth("member-001", MemberActivityMonth.monthOf(now));
+        current.setCompleted(5);
+        current.setCancelled(1);
+        MemberActivityMonth previous = new MemberActivityMonth("member-001",
+                MemberActivityMonth.monthOf(now.minusMonths(2)));
+        previous.setCompleted(8);
+        when(activityRepository.findByMemberIdAndMonthGreaterThanEqualOrderByMonthDesc("member-001",
+                MemberActivityMonth.monthOf(now.minusMonths(11))))
+                .thenReturn(List.of(current, previous));
+
+        // ACT
+        MemberActivityDTO activity = activityService.getActivity("member-001", 12);
+
+        // ASSERT
+        assertEquals(5, activity.getCompletedThisMonth());
+        assertEquals(1, activity.getCancelledThisMonth());
+        assertEquals(List.of(now.toString(), now.minusMonths(2).toString()),
+                activity.getMonths().stream().map(MemberActivityDTO.Month::getMonth).toList());
+        log.info("  ✓ Este mês: {} concluídas, {} canceladas; {} buckets",
+                activity.getCompletedThisMonth(), activity.getCancelledThisMonth(), activity.getMonths().size());
+
+        // VERIFY - sem tocar no histórico de sessões
+        verify(activityRepository, never()).findById(any());
+        log.info("  ✓ Uma leitura por intervalo de chave primária");
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir os buckets a partir das sessões terminadas do schedule-service")
+    void shouldRebuildBucketsFromTerminalSessions() {
+        log.info("\n🧪 TEST: shouldRebuildBucketsFromTerminalSessions");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE - duas concluídas em março, uma cancelada em abril, uma ainda agendada
+        List<ScheduleSessionResponse> sessions = List.of(
+                new ScheduleSessionResponse("s-1", "COMPLETED", LocalDateTime.of(2025, 3, 3, 10, 0)),
+                new ScheduleSessionResponse("s-2", "COMPLETED", LocalDateTime.of(2025, 3, 28, 19, 0)),
+                new ScheduleSessionResponse("s-3", "CANCELLED", LocalDateTime.of(2025, 4, 1, 8, 0)),
+                new ScheduleSessionResponse("s-4", "SCHEDULED", LocalDateTime.of(2025, 4, 2, 9, 0)));
+
+        // ACT
+        int months = activityService.rebuild("member-001", sessions);
+
+        // ASSERT
+        assertEquals(2, months);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<MemberActivityMonth>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(activityRepository).saveAll(saved.capture());
+        List<MemberActivityMonth> buckets = new ArrayList<>();
+        saved.getValue().forEach(buckets::add);
+        assertEquals(202503, buckets.get(0).getMonth());
+        assertEquals(2, buckets.get(0).getCompleted());
+        assertEquals(0, buckets.get(0).getCancelled());
+        assertEquals(202504, buckets.get(1).getMonth());
+        assertEquals(0, buckets.get(1).getCompleted());
+        assertEquals(1, buckets.get(1).getCancelled());
+        log.info("  ✓ 2025-03: 2 concluídas; 2025-04: 1 cancelada");
+
+        // VERIFY - os buckets antigos são apagados antes de gravar os novos
+        InOrder order = inOrder(activityRepository);
+        order.verify(activityRepository).deleteByMemberId("member-001");
+        order.verify(activityRepository).saveAll(any());
+        verifyNoInteractions(processedRepository);
+        log.info("  ✓ Buckets substituídos, ids de eventos intactos");
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+}
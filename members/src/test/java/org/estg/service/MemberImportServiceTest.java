@@ -0,0 +1,186 @@
+package org.estg.service;
+
+import org.estg.data.MembersRepository;
+import org.estg.dto.MemberImportErrorDTO;
+import org.estg.dto.MemberImportResultDTO;
+import org.estg.infrastructure.event.EventPublisher;
+import org.estg.model.Members;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberImportService Tests")
+class MemberImportServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberImportServiceTest.class);
+
+    @Mock
+    private MembersRepository memberRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private MemberImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        log.info("═══════════════════════════════════════");
+        log.info("🔧 Iniciando Setup do Teste de Importação");
+        log.info("═══════════════════════════════════════");
+
+        // chunk de 2 linhas para exercitar vários lotes com poucos dados
+        importService = new MemberImportService(new MembersService(), memberRepository, eventPublisher,
+                entityManager, TransactionOperations.withoutTransaction(),
+                new ObjectMapper().findAndRegisterModules(), 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Deve importar CSV em lotes e reportar erros por linha")
+    void shouldImportCsvInChunksAndReportRowErrors() throws IOException {
+        log.info("\n🧪 TEST: shouldImportCsvInChunksAndReportRowErrors");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE
+        String csv = """
+                fullName,email,phoneNumber,dateOfBirth
+                Jose Soares,jose@gymhub.com,8240047,1990-05-15
+                "Matos, Andre",andre@gymhub.com,,
+                Sem Email,sem-email,,
+                Jose Repetido,jose@gymhub.com,,
+                Ana Existente,ana@gymhub.com,,
+                """;
+        when(memberRepository.findExistingEmails(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of("ana@gymhub.com"));
+        when(memberRepository.saveAll(anyIterable())).thenAnswer(inv -> inv.getArgument(0));
+        log.info("  ✓ CSV com 5 linhas: 2 válidas, 1 email inválido, 1 duplicada no ficheiro, 1 já registada");
+
+        // ACT
+        MemberImportResultDTO result = importService.importMembers(stream(csv), false);
+
+        // ASSERT
+        assertEquals(5, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(4L, 5L, 6L), result.getErrors().stream().map(MemberImportErrorDTO::getLine).toList());
+        log.info("  ✓ received={} imported={} failed={}", result.getReceived(), result.getImported(), result.getFailed());
+
+        // VERIFY - uma query de emails e um publish em bloco por lote, nunca existsByEmailValue
+        ArgumentCaptor<Iterable<Members>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(memberRepository, times(1)).saveAll(saved.capture());
+        List<String> names = new java.util.ArrayList<>();
+        saved.getValue().forEach(m -> names.add(m.getFullName()));
+        assertEquals(List.of("Jose Soares", "Matos, Andre"), names);
+        verify(memberRepository, times(2)).findExistingEmails(anyCollection());
+        verify(memberRepository, never()).existsByEmailValue(any());
+        verify(eventPublisher, times(1)).publishAll(argThat(events -> events.size() == 2));
+        verify(eventPublisher, never()).publish(any());
+        verify(entityManager, times(1)).flush();
+        log.info("  ✓ 1 saveAll, 2 consultas de emails, 1 publishAll com 2 eventos");
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    @Test
+    @DisplayName("Deve importar NDJSON e rejeitar linhas malformadas")
+    void shouldImportNdjsonAndRejectMalformedLines() throws IOException {
+        log.info("\n🧪 TEST: shouldImportNdjsonAndRejectMalformedLines");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE
+        String ndjson = """
+                {"fullName":"Jose Soares","email":"jose@gymhub.com","dateOfBirth":"1990-05-15"}
+                {"fullName":"Andre Matos",
+                {"fullName":"Andre Matos","email":"andre@gymhub.com"}
+                """;
+        when(memberRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(memberRepository.saveAll(anyIterable())).thenAnswer(inv -> inv.getArgument(0));
+
+        // ACT
+        MemberImportResultDTO result = importService.importMembers(stream(ndjson), true);
+
+        // ASSERT
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(2L, result.getErrors().get(0).getLine());
+        log.info("  ✓ Linha malformada reportada: {}", result.getErrors().get(0).getMessage());
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    @Test
+    @DisplayName("Deve repetir linha a linha o lote cuja inserção falha e rejeitar só a linha em conflito")
+    void shouldRetryFailingChunkRowByRow() throws IOException {
+        log.info("\n🧪 TEST: shouldRetryFailingChunkRowByRow");
+        log.info("────────────────────────────────────────");
+
+        // ARRANGE - o 1º lote colide na BD (email de A registado em paralelo), o 2º entra
+        String csv = """
+                fullName,email
+                A,a@gymhub.com
+                B,b@gymhub.com
+                C,c@gymhub.com
+                """;
+        DataIntegrityViolationException duplicate =
+                new DataIntegrityViolationException("duplicate key value violates unique constraint");
+        when(memberRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(memberRepository.saveAll(anyIterable()))
+                .thenThrow(duplicate)
+                .thenAnswer(inv -> inv.getArgument(0));
+        when(memberRepository.save(any(Members.class)))
+                .thenThrow(duplicate)
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        // ACT
+        MemberImportResultDTO result = importService.importMembers(stream(csv), false);
+
+        // ASSERT - só A falha; B (repetida sozinha) e C entram
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(2L, result.getErrors().get(0).getLine());
+        assertEquals("a@gymhub.com", result.getErrors().get(0).getEmail());
+        assertTrue(result.getErrors().get(0).getMessage().contains("duplicate key"));
+        verify(memberRepository, times(2)).save(any(Members.class));
+        verify(eventPublisher, times(2)).publishAll(argThat(events -> events.size() == 1));
+        log.info("  ✓ imported={} failed={} (linha {})", result.getImported(), result.getFailed(),
+                result.getErrors().get(0).getLine());
+
+        log.info("\n✅ ✅ ✅ TESTE PASSOU COM SUCESSO ✅ ✅ ✅\n");
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,35 @@
+package org.estg.schedule.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BookingValidationConfig {
+
+    @Value("${schedule.validation.pool-size:8}")
+    private int poolSize;
+
+    @Value("${schedule.validation.queue-capacity:200}")
+    private int queueCapacity;
+
+    /**
+     * Bounded pool used to fan out the cross-service booking checks (members + trainers).
+     * Saturation falls back to the caller thread, so a burst degrades to sequential calls instead of failing.
+     */
+    @Bean(name = "bookingValidationExecutor")
+    public ThreadPoolTaskExecutor bookingValidationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("booking-validation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,8 +1,13 @@
 package org.estg.schedule.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,14 +15,83 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class RabbitMQConfig {
 
+    // Producer exchanges consumed by schedule-service (must match the producing services)
+    public static final String MEMBERS_EXCHANGE = "members-exchange";
+    public static final String TRAINERS_EXCHANGE = "trainers-exchange";
+
+    // Status-changing events used to invalidate the member/trainer status caches
+    public static final String ROUTING_MEMBER_ACTIVATED = "member.member_activated";
+    public static final String ROUTING_MEMBER_SUSPENDED = "member.member_suspended";
+    public static final String ROUTING_TRAINER_UPDATED = "trainer.trainer_updated";
+    public static final String ROUTING_TRAINER_DELETED = "trainer.trainer_deleted";
+
     @Value("${rabbitmq.exchange.schedule:schedule-exchange}")
     private String scheduleExchangeName;
 
+    @Value("${rabbitmq.exchange.members:" + MEMBERS_EXCHANGE + "}")
+    private String membersExchangeName;
+
+    @Value("${rabbitmq.exchange.trainers:" + TRAINERS_EXCHANGE + "}")
+    private String trainersExchangeName;
+
     @Bean
     public DirectExchange scheduleExchange() {
         return new DirectExchange(scheduleExchangeName, true, false);
     }
 
+    @Bean
+    public DirectExchange membersExchange() {
+        return new DirectExchange(membersExchangeName, true, false);
+    }
+
+    @Bean
+    public DirectExchange trainersExchange() {
+        return new DirectExchange(trainersExchangeName, true, false);
+    }
+
+    // One per replica (server-named, exclusive, auto-delete): every replica holds its own status caches
+    @Bean(name = "memberStatusQueue")
+    public Queue memberStatusQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean(name = "trainerStatusQueue")
+    public Queue trainerStatusQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding bindMemberActivated(
+            @Qualifier("memberStatusQueue") Queue q,
+            @Qualifier("membersExchange") DirectExchange membersExchange
+    ) {
+        return BindingBuilder.bind(q).to(membersExchange).with(ROUTING_MEMBER_ACTIVATED);
+    }
+
+    @Bean
+    public Binding bindMemberSuspended(
+            @Qualifier("memberStatusQueue") Queue q,
+            @Qualifier("membersExchange") DirectExchange membersExchange
+    ) {
+        return BindingBuilder.bind(q).to(membersExchange).with(ROUTING_MEMBER_SUSPENDED);
+    }
+
+    @Bean
+    public Binding bindTrainerUpdated(
+            @Qualifier("trainerStatusQueue") Queue q,
+            @Qualifier("trainersExchange") DirectExchange trainersExchange
+    ) {
+        return BindingBuilder.bind(q).to(trainersExchange).with(ROUTING_TRAINER_UPDATED);
+    }
+
+    @Bean
+    public Binding bindTrainerDeleted(
+            @Qualifier("trainerStatusQueue") Queue q,
+            @Qualifier("trainersExchange") DirectExchange trainersExchange
+    ) {
+        return BindingBuilder.bind(q).to(trainersExchange).with(ROUTING_TRAINER_DELETED);
+    }
+
     @Bean
     public MessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
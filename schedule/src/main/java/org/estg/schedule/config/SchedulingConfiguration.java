@@ -0,0 +1,10 @@
+package org.estg.schedule.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (outbox relay)
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
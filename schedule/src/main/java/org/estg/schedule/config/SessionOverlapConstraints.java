@@ -0,0 +1,91 @@
+package org.estg.schedule.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Installs the PostgreSQL exclusion constraints that make overlapping active sessions impossible
+ * per trainer and per member, independent of how many schedule-service instances are running.
+ * Hibernate (ddl-auto) cannot express EXCLUDE constraints, so they are added idempotently at startup,
+ * and startup fails on PostgreSQL when either cannot be installed. Other databases (H2 in tests) are skipped.
+ */
+@Component
+public class SessionOverlapConstraints implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionOverlapConstraints.class);
+
+    public static final String TRAINER_CONSTRAINT = "sessions_trainer_no_overlap";
+    public static final String MEMBER_CONSTRAINT = "sessions_member_no_overlap";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SessionOverlapConstraints(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!isPostgres()) {
+            return;
+        }
+
+        List<String> failures = new ArrayList<>();
+        try {
+            // Needed to combine "=" on text columns with "&&" on ranges in one GiST index
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gist");
+        } catch (DataAccessException ex) {
+            failures.add("btree_gist: " + ex.getMostSpecificCause().getMessage());
+        }
+        // Each one on its own, so one failure neither hides nor skips the other
+        addConstraint(TRAINER_CONSTRAINT, "trainer_id", failures);
+        addConstraint(MEMBER_CONSTRAINT, "member_id", failures);
+
+        // Without them concurrent replicas can double-book; existing overlaps or privileges need fixing first
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Session overlap constraints not installed: "
+                    + String.join("; ", failures));
+        }
+    }
+
+    private void addConstraint(String name, String ownerColumn, List<String> failures) {
+        try {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_constraint WHERE conname = ?", Integer.class, name);
+            if (existing != null && existing > 0) {
+                return;
+            }
+
+            // Half-open ranges: a session ending at 19:00 does not clash with one starting at 19:00
+            jdbcTemplate.execute("ALTER TABLE sessions ADD CONSTRAINT " + name
+                    + " EXCLUDE USING gist (" + ownerColumn + " WITH =, tsrange(start_time, end_time, '[)') WITH &&)"
+                    + " WHERE (status IN ('SCHEDULED', 'IN_PROGRESS'))");
+            log.info("Session overlap constraint {} installed", name);
+        } catch (DataAccessException ex) {
+            log.error("Session overlap constraint {} not installed: {}", name, ex.getMostSpecificCause().getMessage());
+            failures.add(name + ": " + ex.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException ex) {
+            log.warn("Could not detect database type: {}", ex.getMessage());
+            return false;
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package org.estg.schedule.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.estg.schedule.dto.BatchBookingRequest;
 import org.estg.schedule.dto.SessionDTO;
+import org.estg.schedule.dto.SessionFilter;
+import org.estg.schedule.dto.SessionPageDTO;
 import org.estg.schedule.dto.SessionParticipantDTO;
+import org.estg.schedule.model.Session;
 import org.estg.schedule.service.SessionService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/sessions")
 public class ScheduleController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final SessionService sessionService;
 
     public ScheduleController(SessionService sessionService) {
@@ -25,6 +36,12 @@ public class ScheduleController {
         return ResponseEntity.ok(sessionService.scheduleSession(request));
     }
 
+    // POST /api/sessions/book/batch - explicit slots and/or weekly recurrence, all or nothing
+    @PostMapping("/book/batch")
+    public ResponseEntity<List<SessionDTO>> scheduleBatch(@RequestBody BatchBookingRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(sessionService.scheduleBatch(request));
+    }
+
     // Table 10 - GET /api/sessions/{id}
     @GetMapping("/{id}")
     public ResponseEntity<SessionDTO> getSessionById(@PathVariable("id") @NonNull String id) {
@@ -39,6 +56,33 @@ public class ScheduleController {
         return ResponseEntity.ok(sessionService.listSessions(memberId, trainerId));
     }
 
+    // GET /api/sessions/page?cursor=...&limit=... - keyset pages ordered by (startTime, id)
+    @GetMapping("/page")
+    public ResponseEntity<SessionPageDTO> listSessionsPage(
+            @RequestParam(value = "memberId", required = false) String memberId,
+            @RequestParam(value = "trainerId", required = false) String trainerId,
+            @RequestParam(value = "status", required = false) Session.SessionStatus status,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        SessionFilter filter = new SessionFilter(memberId, trainerId, status, from, to);
+        return ResponseEntity.ok(sessionService.listSessionsPage(filter, cursor, limit));
+    }
+
+    // GET /api/sessions/stream - the whole filtered result as NDJSON, streamed from the database
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamSessions(
+            @RequestParam(value = "memberId", required = false) String memberId,
+            @RequestParam(value = "trainerId", required = false) String trainerId,
+            @RequestParam(value = "status", required = false) Session.SessionStatus status,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        SessionFilter filter = new SessionFilter(memberId, trainerId, status, from, to);
+        StreamingResponseBody body = out -> sessionService.streamSessions(filter, out);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
     // Table 10 - POST /api/sessions/{id}/confirm
     @PostMapping("/{id}/confirm")
     public ResponseEntity<SessionDTO> confirmSession(@PathVariable("id") @NonNull String id) {
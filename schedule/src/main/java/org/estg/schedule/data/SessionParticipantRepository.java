@@ -1,5 +1,6 @@
 package org.estg.schedule.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.estg.schedule.model.SessionParticipant;
@@ -10,6 +11,9 @@ public interface SessionParticipantRepository extends JpaRepository<SessionParti
 
     List<SessionParticipant> findBySession_Id(String sessionId);
 
+    // Participants of a whole chunk of sessions in one statement (NDJSON stream)
+    List<SessionParticipant> findBySession_IdIn(Collection<String> sessionIds);
+
     boolean existsBySession_IdAndMemberId(String sessionId, String memberId);
 
     List<SessionParticipant> findByStatus(ParticipantStatus status);
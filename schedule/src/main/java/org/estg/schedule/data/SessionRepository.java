@@ -1,18 +1,20 @@
 package org.estg.schedule.data;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.estg.schedule.model.Session;
 import org.estg.schedule.model.Session.SessionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface SessionRepository extends JpaRepository<Session, String> {
+public interface SessionRepository extends JpaRepository<Session, String>, JpaSpecificationExecutor<Session> {
 
     List<Session> findByMemberId(String memberId);
 
@@ -24,19 +26,48 @@ public interface SessionRepository extends JpaRepository<Session, String> {
 
     List<Session> findByTrainerIdAndStatus(String trainerId, SessionStatus status);
 
-    @Query("SELECT s FROM Session s WHERE s.startTime BETWEEN :start AND :end")
+    @Query("SELECT s FROM Session s WHERE s.startTime < :end AND s.endTime > :start")
     List<Session> findSessionsBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-    @Query("SELECT s FROM Session s WHERE s.memberId = :memberId AND s.startTime BETWEEN :start AND :end")
+    // Overlap, not containment: a session starting before :start but ending after it also conflicts
+    @Query("SELECT s FROM Session s WHERE s.memberId = :memberId AND s.startTime < :end AND s.endTime > :start")
     List<Session> findMemberSessionsBetween(@Param("memberId") String memberId,
                                             @Param("start") LocalDateTime start,
                                             @Param("end") LocalDateTime end);
 
-    @Query("SELECT s FROM Session s WHERE s.trainerId = :trainerId AND s.startTime BETWEEN :start AND :end")
+    @Query("SELECT s FROM Session s WHERE s.trainerId = :trainerId AND s.startTime < :end AND s.endTime > :start")
     List<Session> findTrainerSessionsBetween(@Param("trainerId") String trainerId,
                                              @Param("start") LocalDateTime start,
                                              @Param("end") LocalDateTime end);
 
+    // Authoritative overlap checks for bookings; :excludeId skips the session being rescheduled
+    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Session s "
+            + "WHERE s.memberId = :memberId AND s.status IN :statuses AND s.id <> :excludeId "
+            + "AND s.startTime < :end AND s.endTime > :start")
+    boolean existsMemberOverlap(@Param("memberId") String memberId,
+                                @Param("start") LocalDateTime start,
+                                @Param("end") LocalDateTime end,
+                                @Param("statuses") Collection<SessionStatus> statuses,
+                                @Param("excludeId") String excludeId);
+
+    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Session s "
+            + "WHERE s.trainerId = :trainerId AND s.status IN :statuses AND s.id <> :excludeId "
+            + "AND s.startTime < :end AND s.endTime > :start")
+    boolean existsTrainerOverlap(@Param("trainerId") String trainerId,
+                                 @Param("start") LocalDateTime start,
+                                 @Param("end") LocalDateTime end,
+                                 @Param("statuses") Collection<SessionStatus> statuses,
+                                 @Param("excludeId") String excludeId);
+
+    // Set-based conflict check for batch bookings: every active session of the member or trainer in the window
+    @Query("SELECT s FROM Session s WHERE (s.memberId = :memberId OR s.trainerId = :trainerId) "
+            + "AND s.status IN :statuses AND s.startTime < :to AND s.endTime > :from")
+    List<Session> findActiveSessionsInWindow(@Param("memberId") String memberId,
+                                             @Param("trainerId") String trainerId,
+                                             @Param("statuses") Collection<SessionStatus> statuses,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
     Optional<Session> findByIdAndMemberId(String id, String memberId);
 
     boolean existsByMemberIdAndTrainerIdAndStatus(String memberId, String trainerId, SessionStatus status);
@@ -0,0 +1,60 @@
+package org.estg.schedule.data;
+
+import java.time.LocalDateTime;
+
+import org.estg.schedule.model.Session;
+import org.estg.schedule.model.Session.SessionStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Composable filters for session listings. Null arguments mean "no filter".
+ */
+public final class SessionSpecifications {
+
+    /** Keyset order: start time, then id as a unique tie-breaker. */
+    public static final Sort KEYSET_ORDER = Sort.by(Sort.Order.asc("startTime"), Sort.Order.asc("id"));
+
+    private SessionSpecifications() {
+    }
+
+    public static Specification<Session> hasMember(String memberId) {
+        return (root, query, cb) -> memberId == null ? null : cb.equal(root.get("memberId"), memberId);
+    }
+
+    public static Specification<Session> hasTrainer(String trainerId) {
+        return (root, query, cb) -> trainerId == null ? null : cb.equal(root.get("trainerId"), trainerId);
+    }
+
+    public static Specification<Session> hasStatus(SessionStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    /** Sessions starting in [from, to). */
+    public static Specification<Session> startsBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            if (from == null && to == null) {
+                return null;
+            }
+            if (from == null) {
+                return cb.lessThan(root.get("startTime"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get("startTime"), from);
+            }
+            return cb.and(cb.greaterThanOrEqualTo(root.get("startTime"), from), cb.lessThan(root.get("startTime"), to));
+        };
+    }
+
+    /** Rows strictly after the (startTime, id) keyset position. */
+    public static Specification<Session> after(LocalDateTime startTime, String id) {
+        return (root, query, cb) -> {
+            if (startTime == null || id == null) {
+                return null;
+            }
+            return cb.or(
+                    cb.greaterThan(root.get("startTime"), startTime),
+                    cb.and(cb.equal(root.get("startTime"), startTime), cb.greaterThan(root.get("id"), id)));
+        };
+    }
+}
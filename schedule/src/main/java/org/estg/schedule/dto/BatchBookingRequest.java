@@ -0,0 +1,54 @@
+package org.estg.schedule.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Books several sessions for one member and trainer at once.
+ * Slots come from the explicit {@code slots} list, the {@code recurrence} rule, or both.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchBookingRequest {
+    private String memberId;
+    private String trainerId;
+    private String sessionType;
+    private String focusArea;
+    private String sessionNotes;
+    private List<Slot> slots;
+    private Recurrence recurrence;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Slot {
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+    }
+
+    /**
+     * Weekly rule, e.g. every TUESDAY/THURSDAY at 18:00 for 60 minutes during 12 weeks from startDate.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Recurrence {
+        private List<DayOfWeek> daysOfWeek;
+        private LocalTime startTime;
+        private Integer durationMinutes;
+        private LocalDate startDate;
+        private Integer weeks;
+    }
+}
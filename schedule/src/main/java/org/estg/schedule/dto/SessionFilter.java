@@ -0,0 +1,25 @@
+package org.estg.schedule.dto;
+
+import java.time.LocalDateTime;
+
+import org.estg.schedule.model.Session;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional filters for session listings; null fields are ignored.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionFilter {
+    private String memberId;
+    private String trainerId;
+    private Session.SessionStatus status;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
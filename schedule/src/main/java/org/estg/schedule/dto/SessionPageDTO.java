@@ -0,0 +1,21 @@
+package org.estg.schedule.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One keyset page of sessions ordered by (startTime, id).
+ * {@code nextCursor} is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionPageDTO {
+    private List<SessionDTO> items;
+    private String nextCursor;
+}
@@ -1,7 +1,10 @@
 package org.estg.schedule.infrastructure.client;
 
+import java.time.Duration;
+
 import org.estg.schedule.exceptions.SessionConflictException;
-import org.estg.schedule.infrastructure.client.dto.MemberProfileResponse;
+import org.estg.schedule.infrastructure.client.dto.MemberStatusResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
@@ -12,32 +15,48 @@ import org.springframework.web.client.RestClientResponseException;
 public class MembersClient {
 
     private final RestClient restClient;
+    private final StatusCache statusCache;
 
-    public MembersClient(RestClient.Builder loadBalancedRestClientBuilder) {
+    public MembersClient(
+            RestClient.Builder loadBalancedRestClientBuilder,
+            @Value("${schedule.status-cache.ttl:60s}") Duration cacheTtl,
+            @Value("${schedule.status-cache.max-size:10000}") int cacheMaxSize
+    ) {
         this.restClient = loadBalancedRestClientBuilder
                 .baseUrl("http://members-service")
                 .build();
+        this.statusCache = new StatusCache(cacheTtl, cacheMaxSize);
     }
 
     public void requireActiveMember(String memberId) {
-        MemberProfileResponse profile = getMemberProfile(memberId);
+        String status = statusCache.get(memberId);
 
-        if (profile == null || profile.getMember() == null) {
-            throw new SessionConflictException("Member profile not found");
+        if (status == null) {
+            MemberStatusResponse member = getMemberStatus(memberId);
+            if (member == null) {
+                throw new SessionConflictException("Member not found");
+            }
+            status = member.getStatus();
+            statusCache.put(memberId, status);
         }
 
-        String status = profile.getMember().getStatus();
         if (status == null || !"ACTIVE".equalsIgnoreCase(status)) {
             throw new SessionConflictException("Member is not active");
         }
     }
 
-    private MemberProfileResponse getMemberProfile(String memberId) {
+    /** Drops the cached status so the next booking re-reads it from members-service. */
+    public void evictMember(String memberId) {
+        statusCache.invalidate(memberId);
+    }
+
+    // Status-only lookup: members-service answers from an (id, status) index without loading the member
+    private MemberStatusResponse getMemberStatus(String memberId) {
         try {
             return restClient.get()
-                    .uri("/api/members/{id}/profile", memberId)
+                    .uri("/api/members/{id}/status", memberId)
                     .retrieve()
-                    .body(MemberProfileResponse.class);
+                    .body(MemberStatusResponse.class);
         } catch (RestClientResponseException ex) {
             HttpStatusCode status = ex.getStatusCode();
             if (status != null && status.value() == 404) {
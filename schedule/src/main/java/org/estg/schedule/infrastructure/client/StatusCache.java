@@ -0,0 +1,81 @@
+package org.estg.schedule.infrastructure.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, TTL-evicting cache of remote status strings (member/trainer id -> status).
+ * Entries expire after the TTL and the least recently used entry is dropped when the cache is full.
+ * Explicit invalidation is driven by the members/trainers events consumed from RabbitMQ.
+ */
+public class StatusCache {
+
+    private final Duration ttl;
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    public StatusCache(Duration ttl, int maxSize) {
+        this(ttl, maxSize, Clock.systemUTC());
+    }
+
+    StatusCache(Duration ttl, int maxSize, Clock clock) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Status cache TTL must be positive");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Status cache size must be positive");
+        }
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > StatusCache.this.maxSize;
+            }
+        };
+    }
+
+    /** Returns the cached status, or null when absent or expired. */
+    public synchronized String get(String id) {
+        if (id == null) {
+            return null;
+        }
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.millis() >= entry.expiresAt) {
+            entries.remove(id);
+            return null;
+        }
+        return entry.status;
+    }
+
+    public synchronized void put(String id, String status) {
+        if (id == null || status == null) {
+            return;
+        }
+        entries.put(id, new Entry(status, clock.millis() + ttl.toMillis()));
+    }
+
+    public synchronized void invalidate(String id) {
+        if (id != null) {
+            entries.remove(id);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(String status, long expiresAt) {
+    }
+}
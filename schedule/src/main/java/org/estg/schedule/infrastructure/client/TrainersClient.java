@@ -1,40 +1,66 @@
 package org.estg.schedule.infrastructure.client;
 
 import org.estg.schedule.exceptions.SessionConflictException;
+import org.estg.schedule.infrastructure.client.dto.TrainerAvailabilityQueryRequest;
+import org.estg.schedule.infrastructure.client.dto.TrainerAvailabilityQueryResponse;
 import org.estg.schedule.infrastructure.client.dto.TrainerAvailabilityResponse;
 import org.estg.schedule.infrastructure.client.dto.TrainerProfileResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestClientResponseException;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 @Component
 public class TrainersClient {
 
     private final RestClient restClient;
+    private final StatusCache statusCache;
+    private final int availabilityQueryDays;
 
-    public TrainersClient(RestClient.Builder loadBalancedRestClientBuilder) {
+    public TrainersClient(
+            RestClient.Builder loadBalancedRestClientBuilder,
+            @Value("${schedule.status-cache.ttl:60s}") Duration cacheTtl,
+            @Value("${schedule.status-cache.max-size:10000}") int cacheMaxSize,
+            @Value("${schedule.trainers.availability-query-days:92}") int availabilityQueryDays
+    ) {
         this.restClient = loadBalancedRestClientBuilder
                 .baseUrl("http://trainers-service")
                 .build();
+        this.statusCache = new StatusCache(cacheTtl, cacheMaxSize);
+        this.availabilityQueryDays = availabilityQueryDays;
     }
 
     public void requireActiveTrainer(String trainerId) {
-        TrainerProfileResponse trainer = getTrainerProfile(trainerId);
+        String status = statusCache.get(trainerId);
 
-        if (trainer == null) {
-            throw new SessionConflictException("Trainer not found");
+        if (status == null) {
+            TrainerProfileResponse trainer = getTrainerProfile(trainerId);
+            if (trainer == null) {
+                throw new SessionConflictException("Trainer not found");
+            }
+            status = trainer.getStatus();
+            statusCache.put(trainerId, status);
         }
 
-        String status = trainer.getStatus();
         if (status == null || !"ACTIVE".equalsIgnoreCase(status)) {
             throw new SessionConflictException("Trainer is not active");
         }
     }
 
+    /** Drops the cached status so the next booking re-reads it from trainers-service. */
+    public void evictTrainer(String trainerId) {
+        statusCache.invalidate(trainerId);
+    }
+
     public void requireTrainerAvailable(String trainerId, LocalDateTime startTime, LocalDateTime endTime) {
         TrainerAvailabilityResponse response = getTrainerAvailability(trainerId, startTime, endTime);
 
@@ -46,6 +72,49 @@ public class TrainersClient {
         }
     }
 
+    /**
+     * Free intervals of many trainers over [from, to] in one call; the range must fit trainers-service's
+     * availability.query.max-days.
+     */
+    public TrainerAvailabilityQueryResponse queryAvailability(Collection<String> trainerIds, LocalDate from, LocalDate to) {
+        try {
+            return restClient.post()
+                    .uri("/api/trainers/availability:query")
+                    .body(new TrainerAvailabilityQueryRequest(List.copyOf(trainerIds), from, to))
+                    .retrieve()
+                    .body(TrainerAvailabilityQueryResponse.class);
+        } catch (RestClientResponseException ex) {
+            throw new SessionConflictException("Trainer availability call failed: " + ex.getMessage());
+        } catch (RestClientException ex) {
+            throw new SessionConflictException("Trainers service unavailable: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Free intervals of one trainer over [from, to], sorted; one call per availability-query-days window.
+     * Empty when the trainer is not ACTIVE.
+     */
+    public List<TrainerAvailabilityQueryResponse.Interval> getFreeIntervals(String trainerId, LocalDate from, LocalDate to) {
+        List<TrainerAvailabilityQueryResponse.Interval> free = new ArrayList<>();
+        for (LocalDate windowStart = from; !windowStart.isAfter(to); windowStart = windowStart.plusDays(availabilityQueryDays)) {
+            LocalDate windowEnd = windowStart.plusDays(availabilityQueryDays - 1L);
+            TrainerAvailabilityQueryResponse response = queryAvailability(List.of(trainerId), windowStart,
+                    windowEnd.isAfter(to) ? to : windowEnd);
+            if (response == null) {
+                throw new SessionConflictException("Trainer availability could not be verified");
+            }
+            if (response.getUnknownTrainerIds() != null && response.getUnknownTrainerIds().contains(trainerId)) {
+                throw new SessionConflictException("Trainer not found");
+            }
+            for (TrainerAvailabilityQueryResponse.TrainerAvailability trainer : response.getTrainers()) {
+                if (trainerId.equals(trainer.getTrainerId()) && trainer.getFree() != null) {
+                    free.addAll(trainer.getFree());
+                }
+            }
+        }
+        return free;
+    }
+
     private TrainerProfileResponse getTrainerProfile(String trainerId) {
         try {
             return restClient.get()
@@ -0,0 +1,26 @@
+package org.estg.schedule.infrastructure.client.dto;
+
+public class MemberStatusResponse {
+
+    private String id;
+    private String status;
+
+    public MemberStatusResponse() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
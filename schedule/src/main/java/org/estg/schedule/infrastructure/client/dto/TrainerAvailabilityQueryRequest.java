@@ -0,0 +1,44 @@
+package org.estg.schedule.infrastructure.client.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class TrainerAvailabilityQueryRequest {
+
+    private List<String> trainerIds;
+    private LocalDate from;
+    private LocalDate to;
+
+    public TrainerAvailabilityQueryRequest() {
+    }
+
+    public TrainerAvailabilityQueryRequest(List<String> trainerIds, LocalDate from, LocalDate to) {
+        this.trainerIds = trainerIds;
+        this.from = from;
+        this.to = to;
+    }
+
+    public List<String> getTrainerIds() {
+        return trainerIds;
+    }
+
+    public void setTrainerIds(List<String> trainerIds) {
+        this.trainerIds = trainerIds;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+}
@@ -0,0 +1,98 @@
+package org.estg.schedule.infrastructure.client.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of trainers-service POST /api/trainers/availability:query: free intervals per trainer.
+ */
+public class TrainerAvailabilityQueryResponse {
+
+    private List<TrainerAvailability> trainers = new ArrayList<>();
+    private List<String> unknownTrainerIds = new ArrayList<>();
+
+    public TrainerAvailabilityQueryResponse() {
+    }
+
+    public List<TrainerAvailability> getTrainers() {
+        return trainers;
+    }
+
+    public void setTrainers(List<TrainerAvailability> trainers) {
+        this.trainers = trainers;
+    }
+
+    public List<String> getUnknownTrainerIds() {
+        return unknownTrainerIds;
+    }
+
+    public void setUnknownTrainerIds(List<String> unknownTrainerIds) {
+        this.unknownTrainerIds = unknownTrainerIds;
+    }
+
+    public static class TrainerAvailability {
+
+        private String trainerId;
+        private String status;
+        private List<Interval> free = new ArrayList<>();
+
+        public TrainerAvailability() {
+        }
+
+        public String getTrainerId() {
+            return trainerId;
+        }
+
+        public void setTrainerId(String trainerId) {
+            this.trainerId = trainerId;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public List<Interval> getFree() {
+            return free;
+        }
+
+        public void setFree(List<Interval> free) {
+            this.free = free;
+        }
+    }
+
+    /** Half-open [start, end). */
+    public static class Interval {
+
+        private LocalDateTime start;
+        private LocalDateTime end;
+
+        public Interval() {
+        }
+
+        public Interval(LocalDateTime start, LocalDateTime end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public void setStart(LocalDateTime start) {
+            this.start = start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+
+        public void setEnd(LocalDateTime end) {
+            this.end = end;
+        }
+    }
+}
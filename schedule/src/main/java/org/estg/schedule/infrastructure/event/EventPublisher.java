@@ -1,8 +1,20 @@
 package org.estg.schedule.infrastructure.event;
 
+import java.util.List;
+
 /**
  * Publishes domain events (as objects) to the infrastructure event bus.
  */
 public interface EventPublisher {
     void publish(Object event);
+
+    /**
+     * Publishes several events in one go; implementations may reuse a single channel/connection.
+     */
+    default void publishAll(List<?> events) {
+        if (events == null) {
+            return;
+        }
+        events.forEach(this::publish);
+    }
 }
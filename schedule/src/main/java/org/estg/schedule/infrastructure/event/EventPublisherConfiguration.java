@@ -1,7 +1,7 @@
 package org.estg.schedule.infrastructure.event;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
+import org.estg.schedule.data.OutboxEventRepository;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,12 +19,13 @@ public class EventPublisherConfiguration {
         return new InMemoryEventPublisher(appPublisher);
     }
 
+    // Events go to the outbox table; OutboxRelay forwards them to RabbitMQ
     @Bean
     @Profile({"docker", "k8s"})
-    public EventPublisher rabbitMQEventPublisher(
-            RabbitTemplate rabbitTemplate,
-            @Value("${rabbitmq.exchange.name:schedule-exchange}") String exchangeName
+    public EventPublisher outboxEventPublisher(
+            OutboxEventRepository outboxRepository,
+            MessageConverter messageConverter
     ) {
-        return new RabbitMQEventPublisher(rabbitTemplate, exchangeName);
+        return new OutboxEventPublisher(outboxRepository, messageConverter);
     }
 }
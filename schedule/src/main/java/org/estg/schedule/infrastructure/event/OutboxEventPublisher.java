@@ -0,0 +1,88 @@
+package org.estg.schedule.infrastructure.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.estg.schedule.data.OutboxEventRepository;
+import org.estg.schedule.domain.event.SessionCancelledEvent;
+import org.estg.schedule.domain.event.SessionCompletedEvent;
+import org.estg.schedule.domain.event.SessionRescheduledEvent;
+import org.estg.schedule.domain.event.SessionScheduledEvent;
+import org.estg.schedule.model.OutboxEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores schedule domain events in the outbox table, inside the caller's transaction.
+ * {@link OutboxRelay} sends them to RabbitMQ after commit, so the broker is off the request path
+ * and a rolled-back booking never produces an event.
+ */
+public class OutboxEventPublisher implements EventPublisher {
+
+    private final OutboxEventRepository outboxRepository;
+    private final MessageConverter messageConverter;
+
+    public OutboxEventPublisher(OutboxEventRepository outboxRepository, MessageConverter messageConverter) {
+        this.outboxRepository = outboxRepository;
+        this.messageConverter = messageConverter;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Object event) {
+        if (event == null) {
+            return;
+        }
+        outboxRepository.save(toOutboxEvent(event));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<?> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> rows = new ArrayList<>(events.size());
+        for (Object event : events) {
+            if (event != null) {
+                rows.add(toOutboxEvent(event));
+            }
+        }
+        outboxRepository.saveAll(rows);
+    }
+
+    /**
+     * Routes are determined by the event's runtime type.
+     */
+    public static String routingKeyFor(Object event) {
+        if (event instanceof SessionScheduledEvent) {
+            return "schedule.session.scheduled";
+        }
+        if (event instanceof SessionRescheduledEvent) {
+            return "schedule.session.rescheduled";
+        }
+        if (event instanceof SessionCancelledEvent) {
+            return "schedule.session.cancelled";
+        }
+        if (event instanceof SessionCompletedEvent) {
+            return "schedule.session.completed";
+        }
+        // If an unknown event arrives, publish it to a generic routing key.
+        return "schedule.event.unknown";
+    }
+
+    // Converted now with the same converter RabbitTemplate used, so the wire format does not change
+    private OutboxEvent toOutboxEvent(Object event) {
+        Message message = messageConverter.toMessage(event, new MessageProperties());
+        Object typeId = message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        return new OutboxEvent(
+                routingKeyFor(event),
+                typeId != null ? typeId.toString() : event.getClass().getName(),
+                new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package org.estg.schedule.infrastructure.event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.estg.schedule.data.OutboxEventRepository;
+import org.estg.schedule.model.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Drains the outbox to RabbitMQ in batches.
+ * Each batch is sent on one channel and confirmed once (publisher confirms, pipelined), then marked
+ * published in the same transaction that locked it. A failed batch stays pending and is retried,
+ * so delivery is at-least-once.
+ */
+@Component
+@Profile({"docker", "k8s"})
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionOperations transactionOperations;
+    private final String exchangeName;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final Duration retention;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxRepository,
+            RabbitTemplate rabbitTemplate,
+            TransactionOperations transactionOperations,
+            @Value("${rabbitmq.exchange.name:schedule-exchange}") String exchangeName,
+            @Value("${schedule.outbox.batch-size:100}") int batchSize,
+            @Value("${schedule.outbox.confirm-timeout:5s}") Duration confirmTimeout,
+            @Value("${schedule.outbox.retention:7d}") Duration retention
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionOperations = transactionOperations;
+        this.exchangeName = exchangeName;
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.outbox.poll-interval:500}")
+    public void drain() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    /** Relays one batch and returns how many events were confirmed by the broker. */
+    public int relayBatch() {
+        Integer relayed = transactionOperations.execute(status -> {
+            List<OutboxEvent> batch = outboxRepository.findPendingForUpdate(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                rabbitTemplate.invoke(operations -> {
+                    for (OutboxEvent event : batch) {
+                        operations.send(exchangeName, event.getRoutingKey(), toMessage(event));
+                    }
+                    operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+                    return null;
+                });
+            } catch (AmqpException ex) {
+                batch.forEach(OutboxEvent::recordFailedAttempt);
+                log.warn("Outbox batch of {} events not confirmed, will retry: {}", batch.size(), ex.getMessage());
+                return 0;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            batch.forEach(event -> event.markPublished(now));
+            return batch.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.outbox.cleanup-interval:3600000}")
+    public void purgePublished() {
+        Integer deleted = transactionOperations.execute(
+                status -> outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageProperties.DEFAULT_DELIVERY_MODE);
+        properties.setMessageId(event.getId());
+        properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getEventType());
+        return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,66 @@
+package org.estg.schedule.infrastructure.event;
+
+import org.estg.schedule.infrastructure.client.MembersClient;
+import org.estg.schedule.infrastructure.client.TrainersClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Invalidates the cached member/trainer status when members-service or trainers-service reports a change.
+ * Each replica consumes its own anonymous queues, so every replica drops its own cached entry.
+ * Payloads are read as raw JSON so the producers' "__TypeId__" headers do not need to resolve here.
+ */
+@Component
+@Profile({"docker", "k8s"})
+public class StatusEventsListener {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusEventsListener.class);
+
+    private final MembersClient membersClient;
+    private final TrainersClient trainersClient;
+    private final ObjectMapper objectMapper;
+
+    public StatusEventsListener(MembersClient membersClient, TrainersClient trainersClient, ObjectMapper objectMapper) {
+        this.membersClient = membersClient;
+        this.trainersClient = trainersClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @RabbitListener(queues = "#{memberStatusQueue.name}")
+    public void onMemberStatusChanged(Message message) {
+        String memberId = readId(message, "memberId");
+        if (!memberId.isBlank()) {
+            membersClient.evictMember(memberId);
+            log.debug("Member status cache invalidated. memberId={}", memberId);
+        }
+    }
+
+    @RabbitListener(queues = "#{trainerStatusQueue.name}")
+    public void onTrainerStatusChanged(Message message) {
+        String trainerId = readId(message, "trainerId");
+        if (!trainerId.isBlank()) {
+            trainersClient.evictTrainer(trainerId);
+            log.debug("Trainer status cache invalidated. trainerId={}", trainerId);
+        }
+    }
+
+    private String readId(Message message, String key) {
+        if (message == null || message.getBody() == null) {
+            return "";
+        }
+        try {
+            JsonNode value = objectMapper.readTree(message.getBody()).get(key);
+            return value == null || value.isNull() ? "" : value.asText("");
+        } catch (Exception ex) {
+            log.error("Failed to read {} from status event", key, ex);
+            return "";
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.estg.schedule.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.estg.schedule.dto.SessionDTO;
+import org.estg.schedule.dto.SessionParticipantDTO;
+import org.estg.schedule.model.Session;
+import org.estg.schedule.model.SessionParticipant;
+import org.springframework.stereotype.Component;
+
+/**
+ * Plain field-by-field mapping between sessions and their DTOs.
+ * Replaces the reflective ModelMapper on the booking and listing paths; every field is listed explicitly,
+ * so a new column has to be added here as well.
+ */
+@Component
+public class SessionMapper {
+
+    public SessionDTO toDto(Session session) {
+        if (session == null) {
+            return null;
+        }
+        return withParticipants(session, toParticipantDtos(session));
+    }
+
+    /**
+     * Maps a session whose participants were fetched separately (e.g. for a whole chunk at once),
+     * without touching its lazy collection.
+     */
+    public SessionDTO toDto(Session session, List<SessionParticipant> participants) {
+        if (session == null) {
+            return null;
+        }
+        List<SessionParticipantDTO> dtos = new ArrayList<>(participants.size());
+        for (SessionParticipant participant : participants) {
+            dtos.add(toDto(participant));
+        }
+        return withParticipants(session, dtos);
+    }
+
+    private SessionDTO withParticipants(Session session, List<SessionParticipantDTO> participants) {
+
+        SessionDTO dto = new SessionDTO();
+        dto.setId(session.getId());
+        dto.setMemberId(session.getMemberId());
+        dto.setTrainerId(session.getTrainerId());
+        dto.setStartTime(session.getStartTime());
+        dto.setEndTime(session.getEndTime());
+        dto.setSessionType(session.getSessionType() == null ? null : session.getSessionType().name());
+        dto.setStatus(session.getStatus() == null ? null : session.getStatus().name());
+        dto.setSessionNotes(session.getSessionNotes());
+        dto.setCaloriesBurned(session.getCaloriesBurned());
+        dto.setFocusArea(session.getFocusArea());
+        dto.setCreatedAt(session.getCreatedAt());
+        dto.setUpdatedAt(session.getUpdatedAt());
+        dto.setParticipants(participants);
+        return dto;
+    }
+
+    public SessionParticipantDTO toDto(SessionParticipant participant) {
+        if (participant == null) {
+            return null;
+        }
+
+        SessionParticipantDTO dto = new SessionParticipantDTO();
+        dto.setId(participant.getId());
+        dto.setSessionId(participant.getSession() == null ? null : participant.getSession().getId());
+        dto.setMemberId(participant.getMemberId());
+        dto.setStatus(participant.getStatus() == null ? null : participant.getStatus().name());
+        dto.setRegisteredAt(participant.getRegisteredAt());
+        dto.setAttendedAt(participant.getAttendedAt());
+        return dto;
+    }
+
+    /**
+     * Builds a new session from a booking request. Only client-supplied fields are copied;
+     * id, status, timestamps and participants stay under the entity's control.
+     * Null fields keep the entity defaults (e.g. PERSONAL type).
+     */
+    public Session toEntity(SessionDTO dto) {
+        Session session = new Session();
+        if (dto == null) {
+            return session;
+        }
+
+        session.setMemberId(dto.getMemberId());
+        session.setTrainerId(dto.getTrainerId());
+        session.setStartTime(dto.getStartTime());
+        session.setEndTime(dto.getEndTime());
+        if (dto.getSessionType() != null && !dto.getSessionType().isBlank()) {
+            session.setSessionType(toSessionType(dto.getSessionType()));
+        }
+        session.setSessionNotes(dto.getSessionNotes());
+        session.setCaloriesBurned(dto.getCaloriesBurned());
+        session.setFocusArea(dto.getFocusArea());
+        return session;
+    }
+
+    public Session.SessionType toSessionType(String sessionType) {
+        if (sessionType == null || sessionType.isBlank()) {
+            return Session.SessionType.PERSONAL;
+        }
+        try {
+            return Session.SessionType.valueOf(sessionType.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown session type: " + sessionType);
+        }
+    }
+
+    // PERSONAL sessions never have participants, so their lazy collection is not touched
+    private List<SessionParticipantDTO> toParticipantDtos(Session session) {
+        if (session.getSessionType() == Session.SessionType.PERSONAL) {
+            return new ArrayList<>();
+        }
+
+        List<SessionParticipant> participants = session.getParticipants();
+        List<SessionParticipantDTO> dtos = new ArrayList<>(participants.size());
+        for (SessionParticipant participant : participants) {
+            dtos.add(toDto(participant));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,66 @@
+package org.estg.schedule.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UuidGenerator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * OutboxEvent Entity - A domain event waiting to be relayed to RabbitMQ
+ *
+ * Written in the same transaction as the session change that raised it, so an event exists
+ * if and only if that change committed. The payload is the already-converted message body.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_pending", columnList = "publishedAt, createdAt"))
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator
+    private String id;
+
+    @Column(nullable = false)
+    private String routingKey;
+
+    // "__TypeId__" header of the original message, kept for consumers that convert by type
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    public OutboxEvent(String routingKey, String eventType, String payload) {
+        this.routingKey = routingKey;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    public void markPublished(LocalDateTime when) {
+        this.publishedAt = when;
+        this.attempts++;
+    }
+
+    public void recordFailedAttempt() {
+        this.attempts++;
+    }
+}
@@ -18,7 +18,12 @@ import lombok.NoArgsConstructor;
  * Manages session lifecycle from booking to completion
  */
 @Entity
-@Table(name = "sessions")
+// Keyset pages and range lookups over all sessions, one member's or one trainer's, ordered by (start_time, id)
+@Table(name = "sessions", indexes = {
+        @Index(name = "idx_sessions_start", columnList = "start_time, id"),
+        @Index(name = "idx_sessions_member_start", columnList = "member_id, start_time, id"),
+        @Index(name = "idx_sessions_trainer_start", columnList = "trainer_id, start_time, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,179 @@
+package org.estg.schedule.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.estg.schedule.dto.BatchBookingRequest;
+import org.estg.schedule.exceptions.SessionConflictException;
+import org.estg.schedule.infrastructure.client.MembersClient;
+import org.estg.schedule.infrastructure.client.TrainersClient;
+import org.estg.schedule.infrastructure.client.dto.TrainerAvailabilityQueryResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs the synchronous cross-service booking checks (member active, trainer active, trainer available)
+ * concurrently and fails fast on the first rejection.
+ */
+@Component
+public class BookingValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingValidator.class);
+
+    static final String TIMER_NAME = "schedule.booking.validation";
+
+    private final MembersClient membersClient;
+    private final TrainersClient trainersClient;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+
+    public BookingValidator(MembersClient membersClient,
+                            TrainersClient trainersClient,
+                            @Qualifier("bookingValidationExecutor") Executor executor,
+                            MeterRegistry meterRegistry) {
+        this.membersClient = membersClient;
+        this.trainersClient = trainersClient;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Throws the first {@link SessionConflictException} raised by any stage without waiting for the others.
+     * Their REST calls still run to completion on the validation executor; their results are discarded.
+     */
+    public void validate(String memberId, String trainerId, LocalDateTime startTime, LocalDateTime endTime) {
+        runAll(List.of(
+                stage("member-active", () -> membersClient.requireActiveMember(memberId)),
+                stage("trainer-active", () -> trainersClient.requireActiveTrainer(trainerId)),
+                stage("trainer-available",
+                        () -> trainersClient.requireTrainerAvailable(trainerId, startTime, endTime))));
+    }
+
+    /**
+     * Batch variant: member and trainer status are checked once, and trainer availability with a single
+     * availability query over the dates the slots span, checked locally against the free intervals.
+     */
+    public void validateBatch(String memberId, String trainerId, List<BatchBookingRequest.Slot> slots) {
+        runAll(List.of(
+                stage("member-active", () -> membersClient.requireActiveMember(memberId)),
+                stage("trainer-active", () -> trainersClient.requireActiveTrainer(trainerId)),
+                stage("trainer-available", () -> requireTrainerAvailable(trainerId, slots))));
+    }
+
+    private void requireTrainerAvailable(String trainerId, List<BatchBookingRequest.Slot> slots) {
+        LocalDate from = slots.get(0).getStartTime().toLocalDate();
+        LocalDate to = from;
+        for (BatchBookingRequest.Slot slot : slots) {
+            LocalDate day = slot.getStartTime().toLocalDate();
+            from = day.isBefore(from) ? day : from;
+            to = day.isAfter(to) ? day : to;
+        }
+
+        List<TrainerAvailabilityQueryResponse.Interval> free = trainersClient.getFreeIntervals(trainerId, from, to);
+        for (BatchBookingRequest.Slot slot : slots) {
+            if (!covers(free, slot.getStartTime(), slot.getEndTime())) {
+                throw new SessionConflictException(
+                        "Trainer is not available for the selected time slot at " + slot.getStartTime());
+            }
+        }
+    }
+
+    // Free intervals are sorted and disjoint: only the last one starting at or before {@code start} can hold the slot.
+    // Both sides are compared in whole minutes, as trainers-service checks single slots (at least one minute long).
+    static boolean covers(List<TrainerAvailabilityQueryResponse.Interval> free, LocalDateTime slotStart,
+                          LocalDateTime slotEnd) {
+        LocalDateTime start = slotStart.truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime end = slotEnd.truncatedTo(ChronoUnit.MINUTES);
+        if (!end.isAfter(start)) {
+            end = start.plusMinutes(1);
+        }
+        int lo = 0;
+        int hi = free.size() - 1;
+        int candidate = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (free.get(mid).getStart().truncatedTo(ChronoUnit.MINUTES).isAfter(start)) {
+                hi = mid - 1;
+            } else {
+                candidate = mid;
+                lo = mid + 1;
+            }
+        }
+        return candidate >= 0 && !free.get(candidate).getEnd().truncatedTo(ChronoUnit.MINUTES).isBefore(end);
+    }
+
+    private void runAll(List<CompletableFuture<Void>> stages) {
+        long started = System.nanoTime();
+
+        // Completes normally when all stages pass, exceptionally as soon as one of them fails
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<Void> f : stages) {
+            f.whenComplete((ok, ex) -> {
+                if (ex != null) {
+                    firstFailure.completeExceptionally(ex);
+                }
+            });
+        }
+        CompletableFuture.allOf(stages.toArray(new CompletableFuture[0])).thenRun(() -> firstFailure.complete(null));
+
+        try {
+            firstFailure.join();
+        } catch (CompletionException ex) {
+            // Only marks the futures done: CompletableFuture never interrupts, so in-flight calls finish
+            // in the background and whatever they return is ignored
+            stages.forEach(f -> f.cancel(false));
+            throw unwrap(ex);
+        } finally {
+            record("total", started, !firstFailure.isCompletedExceptionally());
+        }
+    }
+
+    private CompletableFuture<Void> stage(String name, Runnable check) {
+        return CompletableFuture.runAsync(() -> {
+            long started = System.nanoTime();
+            boolean passed = false;
+            try {
+                check.run();
+                passed = true;
+            } finally {
+                record(name, started, passed);
+            }
+        }, executor);
+    }
+
+    private void record(String stage, long startedNanos, boolean passed) {
+        long elapsed = System.nanoTime() - startedNanos;
+        Timer.builder(TIMER_NAME)
+                .tag("stage", stage)
+                .tag("outcome", passed ? "passed" : "rejected")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Booking validation stage={} outcome={} took={}ms",
+                    stage, passed ? "passed" : "rejected", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private RuntimeException unwrap(Throwable ex) {
+        Throwable cause = ex;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new SessionConflictException("Booking validation failed: " + cause.getMessage());
+    }
+}
@@ -1,35 +1,72 @@
 package org.estg.schedule.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import org.estg.schedule.config.SessionOverlapConstraints;
 import org.estg.schedule.data.SessionParticipantRepository;
 import org.estg.schedule.data.SessionRepository;
+import org.estg.schedule.data.SessionSpecifications;
 import org.estg.schedule.domain.event.SessionCancelledEvent;
 import org.estg.schedule.domain.event.SessionCompletedEvent;
 import org.estg.schedule.domain.event.SessionRescheduledEvent;
 import org.estg.schedule.domain.event.SessionScheduledEvent;
+import org.estg.schedule.dto.BatchBookingRequest;
 import org.estg.schedule.dto.SessionDTO;
+import org.estg.schedule.dto.SessionFilter;
+import org.estg.schedule.dto.SessionPageDTO;
 import org.estg.schedule.dto.SessionParticipantDTO;
 import org.estg.schedule.exceptions.SessionConflictException;
 import org.estg.schedule.exceptions.SessionNotFoundException;
-import org.estg.schedule.infrastructure.client.MembersClient;
-import org.estg.schedule.infrastructure.client.TrainersClient;
 import org.estg.schedule.infrastructure.event.EventPublisher;
+import org.estg.schedule.mapper.SessionMapper;
 import org.estg.schedule.model.Session;
 import org.estg.schedule.model.SessionParticipant;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 @Service
 @Transactional
 public class SessionService {
 
+    private static final Logger log = LoggerFactory.getLogger(SessionService.class);
+
+    // Only these statuses block a time slot
+    private static final Set<Session.SessionStatus> ACTIVE_STATUSES =
+            EnumSet.of(Session.SessionStatus.SCHEDULED, Session.SessionStatus.IN_PROGRESS);
+
+    // Placeholder for "no session to exclude" in the overlap queries
+    private static final String NO_SESSION = "";
+
     @Autowired
     private SessionRepository sessionRepository;
 
@@ -37,25 +74,40 @@ public class SessionService {
     private SessionParticipantRepository participantRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private SessionMapper sessionMapper;
 
     @Autowired
     private EventPublisher eventPublisher;
 
     @Autowired
-    private MembersClient membersClient;
+    private BookingValidator bookingValidator;
+
+    @Value("${schedule.batch.max-slots:200}")
+    private int maxBatchSlots;
+
+    @Value("${schedule.listing.default-limit:50}")
+    private int defaultListLimit;
+
+    @Value("${schedule.listing.max-limit:500}")
+    private int maxListLimit;
+
+    // Sessions written per chunk when streaming; matches the JDBC fetch size
+    @Value("${spring.jpa.properties.hibernate.jdbc.fetch_size:200}")
+    private int streamChunkSize;
 
     @Autowired
-    private TrainersClient trainersClient;
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     // Table 10 - POST /api/sessions/book
     public SessionDTO scheduleSession(SessionDTO sessionDTO) {
-        Session session = modelMapper.map(sessionDTO, Session.class);
+        Session session = sessionMapper.toEntity(sessionDTO);
 
-        // Required synchronous validations (Members + Trainers) before booking
-        membersClient.requireActiveMember(session.getMemberId());
-        trainersClient.requireActiveTrainer(session.getTrainerId());
-        trainersClient.requireTrainerAvailable(session.getTrainerId(), session.getStartTime(), session.getEndTime());
+        // Required synchronous validations (Members + Trainers) before booking, run concurrently
+        bookingValidator.validate(session.getMemberId(), session.getTrainerId(),
+                session.getStartTime(), session.getEndTime());
 
         session.validate();
 
@@ -70,7 +122,7 @@ public class SessionService {
 
         session.schedule();
 
-        Session savedSession = sessionRepository.save(session);
+        Session savedSession = saveWithOverlapGuard(session);
 
         eventPublisher.publish(new SessionScheduledEvent(
                 savedSession.getId(),
@@ -80,7 +132,49 @@ public class SessionService {
                 savedSession.getEndTime(),
                 savedSession.getCreatedAt()));
 
-        return modelMapper.map(savedSession, SessionDTO.class);
+        return sessionMapper.toDto(savedSession);
+    }
+
+    // POST /api/sessions/book/batch - recurring / block bookings for one member and trainer (all or nothing)
+    public List<SessionDTO> scheduleBatch(BatchBookingRequest request) {
+        List<BatchBookingRequest.Slot> slots = expandSlots(request);
+
+        // Remote validations once for the whole block
+        bookingValidator.validateBatch(request.getMemberId(), request.getTrainerId(), slots);
+
+        Session.SessionType type = sessionMapper.toSessionType(request.getSessionType());
+        List<Session> sessions = new ArrayList<>(slots.size());
+        for (BatchBookingRequest.Slot slot : slots) {
+            Session session = new Session();
+            session.setMemberId(request.getMemberId());
+            session.setTrainerId(request.getTrainerId());
+            session.setStartTime(slot.getStartTime());
+            session.setEndTime(slot.getEndTime());
+            session.setSessionType(type);
+            session.setFocusArea(request.getFocusArea());
+            session.setSessionNotes(request.getSessionNotes());
+            session.validate();
+            session.schedule();
+            sessions.add(session);
+        }
+
+        requireNoBatchConflicts(request.getMemberId(), request.getTrainerId(), sessions);
+
+        List<Session> saved = saveAllWithOverlapGuard(sessions);
+
+        eventPublisher.publishAll(saved.stream()
+                .map(s -> new SessionScheduledEvent(
+                        s.getId(),
+                        s.getMemberId(),
+                        s.getTrainerId(),
+                        s.getStartTime(),
+                        s.getEndTime(),
+                        s.getCreatedAt()))
+                .toList());
+
+        return saved.stream()
+                .map(s -> sessionMapper.toDto(s))
+                .collect(Collectors.toList());
     }
 
     // Table 10 - GET /api/sessions/{id}
@@ -89,7 +183,7 @@ public class SessionService {
         Session session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new SessionNotFoundException(sessionId));
 
-        return modelMapper.map(session, SessionDTO.class);
+        return sessionMapper.toDto(session);
     }
 
     // Table 10 - POST /api/sessions/{id}/confirm
@@ -100,7 +194,7 @@ public class SessionService {
         session.startSession();
 
         Session saved = sessionRepository.save(session);
-        return modelMapper.map(saved, SessionDTO.class);
+        return sessionMapper.toDto(saved);
     }
 
     // Table 10 - PUT /api/sessions/{id}/reschedule
@@ -109,12 +203,19 @@ public class SessionService {
                 .orElseThrow(() -> new SessionNotFoundException(sessionId));
 
         // Re-validate member + trainer + trainer availability for the new slot
-        membersClient.requireActiveMember(session.getMemberId());
-        trainersClient.requireActiveTrainer(session.getTrainerId());
-        trainersClient.requireTrainerAvailable(session.getTrainerId(), sessionDTO.getStartTime(), sessionDTO.getEndTime());
+        bookingValidator.validate(session.getMemberId(), session.getTrainerId(),
+                sessionDTO.getStartTime(), sessionDTO.getEndTime());
+
+        if (hasMemberConflict(session.getMemberId(), sessionDTO.getStartTime(), sessionDTO.getEndTime(), sessionId)) {
+            throw new SessionConflictException("Member is not available for the selected time slot");
+        }
+
+        if (hasTrainerConflict(session.getTrainerId(), sessionDTO.getStartTime(), sessionDTO.getEndTime(), sessionId)) {
+            throw new SessionConflictException("Trainer has a conflicting session in schedule_db");
+        }
 
         session.updateDetails(sessionDTO.getStartTime(), sessionDTO.getEndTime(), null, null);
-        Session updated = sessionRepository.save(session);
+        Session updated = saveWithOverlapGuard(session);
 
         eventPublisher.publish(new SessionRescheduledEvent(
                 updated.getId(),
@@ -124,7 +225,7 @@ public class SessionService {
                 updated.getEndTime(),
                 updated.getUpdatedAt()));
 
-        return modelMapper.map(updated, SessionDTO.class);
+        return sessionMapper.toDto(updated);
     }
 
     // Table 10 - POST /api/sessions/{id}/cancel
@@ -142,7 +243,7 @@ public class SessionService {
                 cancelledSession.getSessionNotes(),
                 cancelledSession.getUpdatedAt()));
 
-        return modelMapper.map(cancelledSession, SessionDTO.class);
+        return sessionMapper.toDto(cancelledSession);
     }
 
     // Table 10 - POST /api/sessions/{id}/complete
@@ -169,7 +270,7 @@ public class SessionService {
                 completedSession.getSessionNotes(),
                 completedSession.getUpdatedAt()));
 
-        return modelMapper.map(completedSession, SessionDTO.class);
+        return sessionMapper.toDto(completedSession);
     }
 
     @Transactional(readOnly = true)
@@ -181,31 +282,247 @@ public class SessionService {
         } else if (trainerId != null && !trainerId.isBlank()) {
             sessions = sessionRepository.findByTrainerId(trainerId);
         } else {
-            sessions = sessionRepository.findAll();
+            // Unfiltered listing is bounded to the first keyset page; use /page or /stream to go further
+            return listSessionsPage(new SessionFilter(), null, maxListLimit).getItems();
         }
 
         return sessions.stream()
-                .map(s -> modelMapper.map(s, SessionDTO.class))
+                .map(s -> sessionMapper.toDto(s))
                 .collect(Collectors.toList());
     }
 
+    // GET /api/sessions/page - keyset pagination on (startTime, id)
+    @Transactional(readOnly = true)
+    public SessionPageDTO listSessionsPage(SessionFilter filter, String cursor, Integer limit) {
+        int size = (limit == null || limit <= 0) ? defaultListLimit : Math.min(limit, maxListLimit);
+
+        Specification<Session> spec = toSpecification(filter);
+        String[] position = decodeCursor(cursor);
+        if (position != null) {
+            spec = spec.and(SessionSpecifications.after(LocalDateTime.parse(position[0]), position[1]));
+        }
+
+        // One extra row tells whether another page exists
+        List<Session> rows = sessionRepository.findBy(spec,
+                q -> q.sortBy(SessionSpecifications.KEYSET_ORDER).limit(size + 1).all());
+
+        boolean hasMore = rows.size() > size;
+        List<Session> page = hasMore ? rows.subList(0, size) : rows;
+
+        return new SessionPageDTO(
+                page.stream().map(s -> sessionMapper.toDto(s)).collect(Collectors.toList()),
+                hasMore ? encodeCursor(page.get(page.size() - 1)) : null);
+    }
+
+    // GET /api/sessions/stream - NDJSON, one session per line, constant memory per request
+    @Transactional(readOnly = true)
+    public void streamSessions(SessionFilter filter, OutputStream out) throws IOException {
+        try (Stream<Session> rows = sessionRepository.findBy(toSpecification(filter),
+                q -> q.sortBy(SessionSpecifications.KEYSET_ORDER).stream())) {
+            Iterator<Session> it = rows.iterator();
+            List<Session> chunk = new ArrayList<>(streamChunkSize);
+            while (it.hasNext()) {
+                chunk.add(it.next());
+                if (chunk.size() == streamChunkSize) {
+                    writeChunk(chunk, out);
+                    chunk.clear();
+                }
+            }
+            writeChunk(chunk, out);
+        }
+    }
+
+    // One participants query per chunk instead of one lazy load per group session
+    private void writeChunk(List<Session> chunk, OutputStream out) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<String> groupIds = new ArrayList<>();
+        for (Session session : chunk) {
+            if (session.getSessionType() != Session.SessionType.PERSONAL) {
+                groupIds.add(session.getId());
+            }
+        }
+        Map<String, List<SessionParticipant>> participants = new HashMap<>();
+        if (!groupIds.isEmpty()) {
+            for (SessionParticipant p : participantRepository.findBySession_IdIn(groupIds)) {
+                participants.computeIfAbsent(p.getSession().getId(), id -> new ArrayList<>()).add(p);
+            }
+        }
+
+        for (Session session : chunk) {
+            List<SessionParticipant> own = participants.getOrDefault(session.getId(), List.of());
+            out.write(objectMapper.writeValueAsBytes(sessionMapper.toDto(session, own)));
+            out.write('\n');
+
+            // Keep the persistence context from growing with the result set
+            own.forEach(entityManager::detach);
+            entityManager.detach(session);
+        }
+        out.flush();
+    }
+
     @Transactional(readOnly = true)
     public boolean isTrainerAvailable(@NonNull String trainerId, LocalDateTime startTime, LocalDateTime endTime) {
-        List<Session> sessions = sessionRepository.findTrainerSessionsBetween(trainerId, startTime, endTime);
-        return sessions.isEmpty();
+        return !hasTrainerConflict(trainerId, startTime, endTime, NO_SESSION);
     }
 
     @Transactional(readOnly = true)
     public boolean isMemberAvailable(@NonNull String memberId, LocalDateTime startTime, LocalDateTime endTime) {
-        List<Session> sessions = sessionRepository.findMemberSessionsBetween(memberId, startTime, endTime);
-        return sessions.isEmpty();
+        return !hasMemberConflict(memberId, startTime, endTime, NO_SESSION);
+    }
+
+    // schedule_db sees sessions booked on every replica; each check is a range scan on
+    // idx_sessions_trainer_start or idx_sessions_member_start
+    private boolean hasTrainerConflict(String trainerId, LocalDateTime startTime, LocalDateTime endTime, String excludeId) {
+        return sessionRepository.existsTrainerOverlap(trainerId, startTime, endTime, ACTIVE_STATUSES, excludeId);
+    }
+
+    private boolean hasMemberConflict(String memberId, LocalDateTime startTime, LocalDateTime endTime, String excludeId) {
+        return sessionRepository.existsMemberOverlap(memberId, startTime, endTime, ACTIVE_STATUSES, excludeId);
+    }
+
+    // Flush now so a schedule_db exclusion-constraint violation (concurrent booking) surfaces as a conflict
+    private Session saveWithOverlapGuard(Session session) {
+        try {
+            return sessionRepository.saveAndFlush(session);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateOverlapViolation(ex);
+        }
+    }
+
+    private RuntimeException translateOverlapViolation(DataIntegrityViolationException ex) {
+        String detail = String.valueOf(ex.getMostSpecificCause().getMessage());
+        if (detail.contains(SessionOverlapConstraints.TRAINER_CONSTRAINT)) {
+            return new SessionConflictException("Trainer has a conflicting session in schedule_db");
+        }
+        if (detail.contains(SessionOverlapConstraints.MEMBER_CONSTRAINT)) {
+            return new SessionConflictException("Member is not available for the selected time slot");
+        }
+        return ex;
+    }
+
+    // Explicit slots plus the expanded weekly rule, ordered by start time
+    private List<BatchBookingRequest.Slot> expandSlots(BatchBookingRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Batch booking request is required");
+        }
+
+        List<BatchBookingRequest.Slot> slots = new ArrayList<>();
+        if (request.getSlots() != null) {
+            for (BatchBookingRequest.Slot slot : request.getSlots()) {
+                if (slot == null || slot.getStartTime() == null || slot.getEndTime() == null) {
+                    throw new IllegalArgumentException("Every slot needs a startTime and an endTime");
+                }
+                slots.add(slot);
+            }
+        }
+
+        BatchBookingRequest.Recurrence rule = request.getRecurrence();
+        if (rule != null) {
+            if (rule.getDaysOfWeek() == null || rule.getDaysOfWeek().isEmpty() || rule.getStartTime() == null
+                    || rule.getStartDate() == null || rule.getDurationMinutes() == null || rule.getDurationMinutes() <= 0
+                    || rule.getWeeks() == null || rule.getWeeks() <= 0) {
+                throw new IllegalArgumentException(
+                        "Recurrence needs daysOfWeek, startTime, durationMinutes > 0, startDate and weeks > 0");
+            }
+            Set<DayOfWeek> days = EnumSet.copyOf(rule.getDaysOfWeek());
+            LocalDate last = rule.getStartDate().plusWeeks(rule.getWeeks());
+            for (LocalDate day = rule.getStartDate(); day.isBefore(last); day = day.plusDays(1)) {
+                if (days.contains(day.getDayOfWeek())) {
+                    LocalDateTime start = day.atTime(rule.getStartTime());
+                    slots.add(new BatchBookingRequest.Slot(start, start.plusMinutes(rule.getDurationMinutes())));
+                }
+                if (slots.size() > maxBatchSlots) {
+                    break;
+                }
+            }
+        }
+
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("Batch booking needs at least one slot or a recurrence rule");
+        }
+        if (slots.size() > maxBatchSlots) {
+            throw new IllegalArgumentException("Batch booking is limited to " + maxBatchSlots + " sessions");
+        }
+
+        slots.sort(Comparator.comparing(BatchBookingRequest.Slot::getStartTime));
+        return slots;
+    }
+
+    // One query for the whole window, then an in-memory sweep of the (sorted) requested slots
+    private void requireNoBatchConflicts(String memberId, String trainerId, List<Session> sessions) {
+        for (int i = 1; i < sessions.size(); i++) {
+            if (sessions.get(i).getStartTime().isBefore(sessions.get(i - 1).getEndTime())) {
+                throw new SessionConflictException(
+                        "Requested slots overlap each other at " + sessions.get(i).getStartTime());
+            }
+        }
+
+        LocalDateTime from = sessions.get(0).getStartTime();
+        LocalDateTime to = sessions.stream().map(Session::getEndTime).max(Comparator.naturalOrder()).orElseThrow();
+        List<Session> existing = sessionRepository.findActiveSessionsInWindow(memberId, trainerId, ACTIVE_STATUSES, from, to);
+
+        for (Session requested : sessions) {
+            for (Session other : existing) {
+                if (other.getStartTime().isBefore(requested.getEndTime())
+                        && other.getEndTime().isAfter(requested.getStartTime())) {
+                    throw new SessionConflictException(memberId.equals(other.getMemberId())
+                            ? "Member is not available for the slot starting at " + requested.getStartTime()
+                            : "Trainer has a conflicting session for the slot starting at " + requested.getStartTime());
+                }
+            }
+        }
+    }
+
+    private List<Session> saveAllWithOverlapGuard(List<Session> sessions) {
+        try {
+            return sessionRepository.saveAllAndFlush(sessions);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateOverlapViolation(ex);
+        }
+    }
+
+    private Specification<Session> toSpecification(SessionFilter filter) {
+        SessionFilter f = filter == null ? new SessionFilter() : filter;
+        return Specification.where(SessionSpecifications.hasMember(blankToNull(f.getMemberId())))
+                .and(SessionSpecifications.hasTrainer(blankToNull(f.getTrainerId())))
+                .and(SessionSpecifications.hasStatus(f.getStatus()))
+                .and(SessionSpecifications.startsBetween(f.getFrom(), f.getTo()));
+    }
+
+    private String blankToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value;
+    }
+
+    // Opaque cursor: base64url("startTime|id") of the last row of the previous page
+    private String encodeCursor(Session last) {
+        String raw = last.getStartTime() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime.parse(parts[0]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 
     @Transactional(readOnly = true)
     public List<SessionParticipantDTO> getSessionParticipants(@NonNull String sessionId) {
         List<SessionParticipant> participants = participantRepository.findBySession_Id(sessionId);
         return participants.stream()
-                .map(p -> modelMapper.map(p, SessionParticipantDTO.class))
+                .map(p -> sessionMapper.toDto(p))
                 .collect(Collectors.toList());
     }
 
@@ -225,7 +542,7 @@ public class SessionService {
         SessionParticipant savedParticipant = participantRepository.save(participant);
         session.addParticipant(savedParticipant);
 
-        return modelMapper.map(savedParticipant, SessionParticipantDTO.class);
+        return sessionMapper.toDto(savedParticipant);
     }
 
     public void removeParticipant(@NonNull String sessionId, @NonNull String participantId) {
@@ -1,5 +1,6 @@
 package org.estg.schedule.controller;
 
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -20,6 +21,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.estg.schedule.dto.SessionDTO;
+import org.estg.schedule.dto.SessionFilter;
+import org.estg.schedule.dto.SessionPageDTO;
 import org.estg.schedule.service.SessionService;
 
 @SpringBootTest
@@ -64,6 +67,20 @@ class ScheduleControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void testListSessionsPage() throws Exception {
+        when(sessionService.listSessionsPage(any(SessionFilter.class), isNull(), eq(20)))
+                .thenReturn(new SessionPageDTO(List.of(sessionDTO), "next"));
+
+        mockMvc.perform(get("/api/sessions/page")
+                        .param("status", "SCHEDULED")
+                        .param("from", "2026-01-01T00:00:00")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.items[0].id").value(sessionId));
+    }
+
     @Test
     void testConfirmSessionSuccess() throws Exception {
         when(sessionService.confirmSession(sessionId)).thenReturn(sessionDTO);
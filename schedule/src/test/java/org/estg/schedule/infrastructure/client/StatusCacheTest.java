@@ -0,0 +1,86 @@
+package org.estg.schedule.infrastructure.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class StatusCacheTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusCacheTest.class);
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void testEntryExpiresAfterTtl() {
+        StatusCache cache = new StatusCache(Duration.ofSeconds(60), 10, clock);
+        cache.put("member123", "ACTIVE");
+
+        clock.advance(Duration.ofSeconds(59));
+        assertEquals("ACTIVE", cache.get("member123"));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertNull(cache.get("member123"));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvictedWhenFull() {
+        StatusCache cache = new StatusCache(Duration.ofSeconds(60), 2, clock);
+        cache.put("a", "ACTIVE");
+        cache.put("b", "ACTIVE");
+        cache.get("a");
+        cache.put("c", "SUSPENDED");
+
+        assertEquals(2, cache.size());
+        assertEquals("ACTIVE", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("SUSPENDED", cache.get("c"));
+    }
+
+    @Test
+    void testInvalidateRemovesEntry() {
+        StatusCache cache = new StatusCache(Duration.ofSeconds(60), 10, clock);
+        cache.put("trainer456", "ACTIVE");
+
+        cache.invalidate("trainer456");
+
+        assertNull(cache.get("trainer456"));
+    }
+
+    @AfterEach
+    void banner() {
+        log.info("? ? TESTE PASSOU COM SUCESSO ? ? ?");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T10:00:00Z");
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.estg.schedule.infrastructure.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import org.estg.schedule.data.OutboxEventRepository;
+import org.estg.schedule.domain.event.SessionCancelledEvent;
+import org.estg.schedule.domain.event.SessionScheduledEvent;
+import org.estg.schedule.model.OutboxEvent;
+
+class OutboxEventPublisherTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxEventPublisherTest.class);
+
+    private OutboxEventRepository outboxRepository;
+    private OutboxEventPublisher publisher;
+
+    private final LocalDateTime start = LocalDateTime.of(2026, 3, 2, 18, 0);
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxEventRepository.class);
+        publisher = new OutboxEventPublisher(outboxRepository, new Jackson2JsonMessageConverter());
+    }
+
+    @Test
+    void testPublishStoresConvertedEventWithRoutingKey() {
+        publisher.publish(new SessionScheduledEvent("session1", "member123", "trainer456",
+                start, start.plusHours(1), start.minusDays(1)));
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxRepository).save(captor.capture());
+
+        OutboxEvent stored = captor.getValue();
+        assertEquals("schedule.session.scheduled", stored.getRoutingKey());
+        assertEquals(SessionScheduledEvent.class.getName(), stored.getEventType());
+        assertTrue(stored.getPayload().contains("\"sessionId\":\"session1\""));
+        assertNull(stored.getPublishedAt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPublishAllStoresOneRowPerEvent() {
+        publisher.publishAll(List.of(
+                new SessionScheduledEvent("session1", "member123", "trainer456", start, start.plusHours(1), start),
+                new SessionCancelledEvent("session2", "member123", "trainer456", "reason", start)));
+
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(captor.capture());
+        verify(outboxRepository, never()).save(any());
+
+        assertEquals(List.of("schedule.session.scheduled", "schedule.session.cancelled"),
+                captor.getValue().stream().map(OutboxEvent::getRoutingKey).toList());
+    }
+
+    @AfterEach
+    void banner() {
+        log.info("? ? TESTE PASSOU COM SUCESSO ? ? ?");
+    }
+}
@@ -0,0 +1,90 @@
+package org.estg.schedule.infrastructure.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import org.estg.schedule.data.OutboxEventRepository;
+import org.estg.schedule.model.OutboxEvent;
+
+class OutboxRelayTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayTest.class);
+
+    private OutboxEventRepository outboxRepository;
+    private RabbitTemplate rabbitTemplate;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxEventRepository.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        // Run the callback against the template itself, as invoke() would on a dedicated channel
+        when(rabbitTemplate.invoke(any())).thenAnswer(inv ->
+                inv.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+
+        relay = new OutboxRelay(outboxRepository, rabbitTemplate, TransactionOperations.withoutTransaction(),
+                "schedule-exchange", 2, Duration.ofSeconds(5), Duration.ofDays(7));
+    }
+
+    @Test
+    void testRelayBatchSendsAllThenWaitsForConfirmsOnce() {
+        OutboxEvent first = new OutboxEvent("schedule.session.scheduled", "SessionScheduledEvent", "{\"a\":1}");
+        OutboxEvent second = new OutboxEvent("schedule.session.cancelled", "SessionCancelledEvent", "{\"b\":2}");
+        when(outboxRepository.findPendingForUpdate(any())).thenReturn(List.of(first, second));
+
+        assertEquals(2, relay.relayBatch());
+
+        verify(rabbitTemplate).send(eq("schedule-exchange"), eq("schedule.session.scheduled"), any(Message.class));
+        verify(rabbitTemplate).send(eq("schedule-exchange"), eq("schedule.session.cancelled"), any(Message.class));
+        verify(rabbitTemplate, times(1)).waitForConfirmsOrDie(5_000L);
+        assertNotNull(first.getPublishedAt());
+        assertNotNull(second.getPublishedAt());
+    }
+
+    @Test
+    void testUnconfirmedBatchStaysPending() {
+        OutboxEvent event = new OutboxEvent("schedule.session.scheduled", "SessionScheduledEvent", "{}");
+        when(outboxRepository.findPendingForUpdate(any())).thenReturn(List.of(event));
+        doThrow(new AmqpTimeoutException("no confirm")).when(rabbitTemplate).waitForConfirmsOrDie(anyLong());
+
+        assertEquals(0, relay.relayBatch());
+
+        assertNull(event.getPublishedAt());
+        assertEquals(1, event.getAttempts());
+    }
+
+    @Test
+    void testDrainStopsOnPartialBatch() {
+        OutboxEvent event = new OutboxEvent("schedule.session.scheduled", "SessionScheduledEvent", "{}");
+        when(outboxRepository.findPendingForUpdate(any()))
+                .thenReturn(List.of(
+                        new OutboxEvent("schedule.session.scheduled", "SessionScheduledEvent", "{}"),
+                        new OutboxEvent("schedule.session.scheduled", "SessionScheduledEvent", "{}")))
+                .thenReturn(List.of(event));
+
+        relay.drain();
+
+        verify(outboxRepository, times(2)).findPendingForUpdate(any());
+        verify(rabbitTemplate, times(2)).waitForConfirmsOrDie(anyLong());
+    }
+
+    @AfterEach
+    void banner() {
+        log.info("? ? TESTE PASSOU COM SUCESSO ? ? ?");
+    }
+}
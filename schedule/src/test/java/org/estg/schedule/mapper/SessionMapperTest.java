@@ -0,0 +1,88 @@
+package org.estg.schedule.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.estg.schedule.dto.SessionDTO;
+import org.estg.schedule.dto.SessionParticipantDTO;
+import org.estg.schedule.model.Session;
+import org.estg.schedule.model.SessionParticipant;
+
+class SessionMapperTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionMapperTest.class);
+
+    private final SessionMapper mapper = new SessionMapper();
+
+    @Test
+    void testToDtoCopiesAllFields() {
+        Session session = new Session();
+        session.setId("session1");
+        session.setMemberId("member123");
+        session.setTrainerId("trainer456");
+        session.setStartTime(LocalDateTime.of(2026, 3, 2, 18, 0));
+        session.setEndTime(LocalDateTime.of(2026, 3, 2, 19, 0));
+        session.setSessionType(Session.SessionType.GROUP);
+        session.setFocusArea("Legs");
+        session.setCaloriesBurned(450);
+
+        SessionParticipant participant = new SessionParticipant();
+        participant.setId("participant1");
+        participant.setMemberId("member789");
+        session.addParticipant(participant);
+
+        SessionDTO dto = mapper.toDto(session);
+
+        assertEquals("session1", dto.getId());
+        assertEquals("member123", dto.getMemberId());
+        assertEquals("trainer456", dto.getTrainerId());
+        assertEquals(session.getStartTime(), dto.getStartTime());
+        assertEquals(session.getEndTime(), dto.getEndTime());
+        assertEquals("GROUP", dto.getSessionType());
+        assertEquals("SCHEDULED", dto.getStatus());
+        assertEquals("Legs", dto.getFocusArea());
+        assertEquals(450, dto.getCaloriesBurned());
+        assertEquals(session.getCreatedAt(), dto.getCreatedAt());
+
+        SessionParticipantDTO participantDto = dto.getParticipants().get(0);
+        assertEquals("participant1", participantDto.getId());
+        assertEquals("session1", participantDto.getSessionId());
+        assertEquals("CONFIRMED", participantDto.getStatus());
+    }
+
+    @Test
+    void testToEntityIgnoresServerManagedFields() {
+        SessionDTO dto = new SessionDTO();
+        dto.setId("client-id");
+        dto.setStatus("COMPLETED");
+        dto.setMemberId("member123");
+        dto.setTrainerId("trainer456");
+        dto.setSessionType("class");
+
+        Session session = mapper.toEntity(dto);
+
+        assertNull(session.getId());
+        assertEquals(Session.SessionStatus.SCHEDULED, session.getStatus());
+        assertEquals(Session.SessionType.CLASS, session.getSessionType());
+        assertEquals("member123", session.getMemberId());
+    }
+
+    @Test
+    void testToEntityRejectsUnknownSessionType() {
+        SessionDTO dto = new SessionDTO();
+        dto.setSessionType("YOGA");
+
+        assertThrows(IllegalArgumentException.class, () -> mapper.toEntity(dto));
+    }
+
+    @AfterEach
+    void banner() {
+        log.info("? ? TESTE PASSOU COM SUCESSO ? ? ?");
+    }
+}
@@ -0,0 +1,130 @@
+package org.estg.schedule.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.estg.schedule.dto.BatchBookingRequest;
+import org.estg.schedule.exceptions.SessionConflictException;
+import org.estg.schedule.infrastructure.client.MembersClient;
+import org.estg.schedule.infrastructure.client.TrainersClient;
+import org.estg.schedule.infrastructure.client.dto.TrainerAvailabilityQueryResponse.Interval;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BookingValidatorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingValidatorTest.class);
+
+    private MembersClient membersClient;
+    private TrainersClient trainersClient;
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private BookingValidator validator;
+
+    private final LocalDateTime start = LocalDateTime.now().plusHours(1);
+    private final LocalDateTime end = LocalDateTime.now().plusHours(2);
+
+    @BeforeEach
+    void setUp() {
+        membersClient = mock(MembersClient.class);
+        trainersClient = mock(TrainersClient.class);
+        executor = Executors.newFixedThreadPool(3);
+        meterRegistry = new SimpleMeterRegistry();
+        validator = new BookingValidator(membersClient, trainersClient, executor, meterRegistry);
+    }
+
+    @Test
+    void testValidatePassesWhenAllChecksPass() {
+        assertDoesNotThrow(() -> validator.validate("member123", "trainer456", start, end));
+
+        verify(membersClient).requireActiveMember("member123");
+        verify(trainersClient).requireActiveTrainer("trainer456");
+        verify(trainersClient).requireTrainerAvailable("trainer456", start, end);
+        assertEquals(1, meterRegistry.get(BookingValidator.TIMER_NAME)
+                .tag("stage", "total").tag("outcome", "passed").timer().count());
+    }
+
+    @Test
+    void testValidateRethrowsSessionConflict() {
+        doThrow(new SessionConflictException("Member is not active"))
+                .when(membersClient).requireActiveMember(anyString());
+
+        SessionConflictException ex = assertThrows(SessionConflictException.class,
+                () -> validator.validate("member123", "trainer456", start, end));
+
+        assertEquals("Member is not active", ex.getMessage());
+    }
+
+    @Test
+    void testValidateFailsFastWithoutWaitingForSlowStages() {
+        doAnswer(inv -> {
+            Thread.sleep(5_000);
+            return null;
+        }).when(trainersClient).requireTrainerAvailable(anyString(), any(), any());
+        doThrow(new SessionConflictException("Trainer is not active"))
+                .when(trainersClient).requireActiveTrainer(anyString());
+
+        long started = System.nanoTime();
+        assertThrows(SessionConflictException.class,
+                () -> validator.validate("member123", "trainer456", start, end));
+
+        assertTrue(System.nanoTime() - started < 4_000_000_000L);
+    }
+
+    @Test
+    void testValidateBatchChecksAvailabilityWithOneQuery() {
+        LocalDate monday = LocalDate.of(2030, 1, 7);
+        when(trainersClient.getFreeIntervals("trainer456", monday, monday.plusWeeks(2)))
+                .thenReturn(List.of(
+                        new Interval(monday.atTime(9, 0), monday.atTime(12, 0)),
+                        new Interval(monday.plusWeeks(1).atTime(9, 0), monday.plusWeeks(1).atTime(12, 0)),
+                        new Interval(monday.plusWeeks(2).atTime(9, 0), monday.plusWeeks(2).atTime(10, 0))));
+
+        List<BatchBookingRequest.Slot> fitting = List.of(
+                new BatchBookingRequest.Slot(monday.atTime(10, 0), monday.atTime(11, 0)),
+                new BatchBookingRequest.Slot(monday.plusWeeks(1).atTime(10, 0), monday.plusWeeks(1).atTime(11, 0)),
+                new BatchBookingRequest.Slot(monday.plusWeeks(2).atTime(9, 0), monday.plusWeeks(2).atTime(10, 0)));
+        assertDoesNotThrow(() -> validator.validateBatch("member123", "trainer456", fitting));
+
+        List<BatchBookingRequest.Slot> lastTooLate = List.of(
+                fitting.get(0),
+                new BatchBookingRequest.Slot(monday.plusWeeks(2).atTime(9, 30), monday.plusWeeks(2).atTime(10, 30)));
+        SessionConflictException ex = assertThrows(SessionConflictException.class,
+                () -> validator.validateBatch("member123", "trainer456", lastTooLate));
+
+        assertTrue(ex.getMessage().contains(monday.plusWeeks(2).atTime(9, 30).toString()));
+        verify(trainersClient, times(2)).getFreeIntervals(eq("trainer456"), any(), any());
+        verify(trainersClient, never()).requireTrainerAvailable(anyString(), any(), any());
+    }
+
+    @Test
+    void testCoversComparesWholeMinutes() {
+        LocalDate monday = LocalDate.of(2030, 1, 7);
+        List<Interval> free = List.of(new Interval(monday.atTime(9, 0), monday.atTime(10, 0)));
+
+        // Seconds are dropped on both sides, as in trainers-service's single-slot check
+        assertTrue(BookingValidator.covers(free, monday.atTime(9, 0, 30), monday.atTime(10, 0, 45)));
+        assertTrue(BookingValidator.covers(free, monday.atTime(9, 59, 10), monday.atTime(9, 59, 50)));
+        assertFalse(BookingValidator.covers(free, monday.atTime(8, 59, 59), monday.atTime(9, 30)));
+        assertFalse(BookingValidator.covers(free, monday.atTime(10, 0, 5), monday.atTime(10, 0, 30)));
+    }
+
+    @AfterEach
+    void banner() {
+        executor.shutdownNow();
+        log.info("? ? TESTE PASSOU COM SUCESSO ? ? ?");
+    }
+}
@@ -4,27 +4,39 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 
 import org.estg.schedule.data.SessionParticipantRepository;
 import org.estg.schedule.data.SessionRepository;
+import org.estg.schedule.dto.BatchBookingRequest;
 import org.estg.schedule.dto.SessionDTO;
+import org.estg.schedule.dto.SessionFilter;
+import org.estg.schedule.dto.SessionPageDTO;
+import org.estg.schedule.exceptions.SessionConflictException;
 import org.estg.schedule.exceptions.SessionNotFoundException;
 import org.estg.schedule.infrastructure.event.EventPublisher;
 import org.estg.schedule.model.Session;
+import org.estg.schedule.model.SessionParticipant;
 
 @SpringBootTest
 class SessionServiceTest {
@@ -38,10 +50,10 @@ class SessionServiceTest {
     private SessionParticipantRepository participantRepository;
 
     @MockitoBean
-    private ModelMapper modelMapper;
+    private EventPublisher eventPublisher;
 
     @MockitoBean
-    private EventPublisher eventPublisher;
+    private BookingValidator bookingValidator;
 
     @Autowired
     private SessionService sessionService;
@@ -72,7 +84,6 @@ class SessionServiceTest {
     @Test
     void testGetSessionByIdSuccess() {
         when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
-        when(modelMapper.map(mockSession, SessionDTO.class)).thenReturn(mockSessionDTO);
 
         SessionDTO result = sessionService.getSessionById(sessionId);
 
@@ -91,7 +102,6 @@ class SessionServiceTest {
     void testConfirmSessionSuccess() {
         when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
         when(sessionRepository.save(any(Session.class))).thenReturn(mockSession);
-        when(modelMapper.map(mockSession, SessionDTO.class)).thenReturn(mockSessionDTO);
 
         SessionDTO result = sessionService.confirmSession(sessionId);
 
@@ -104,7 +114,6 @@ class SessionServiceTest {
         List<Session> sessions = List.of(mockSession);
 
         when(sessionRepository.findByMemberId("member123")).thenReturn(sessions);
-        when(modelMapper.map(mockSession, SessionDTO.class)).thenReturn(mockSessionDTO);
 
         List<SessionDTO> result = sessionService.listSessions("member123", null);
 
@@ -117,7 +126,6 @@ class SessionServiceTest {
         List<Session> sessions = List.of(mockSession);
 
         when(sessionRepository.findByTrainerId("trainer456")).thenReturn(sessions);
-        when(modelMapper.map(mockSession, SessionDTO.class)).thenReturn(mockSessionDTO);
 
         List<SessionDTO> result = sessionService.listSessions(null, "trainer456");
 
@@ -125,6 +133,124 @@ class SessionServiceTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    void testScheduleSessionMapsOverlapConstraintToConflict() {
+        when(sessionRepository.saveAndFlush(any(Session.class))).thenThrow(new DataIntegrityViolationException(
+                "conflicting key value violates exclusion constraint \"sessions_trainer_no_overlap\""));
+
+        SessionConflictException ex = assertThrows(SessionConflictException.class,
+                () -> sessionService.scheduleSession(mockSessionDTO));
+
+        assertEquals("Trainer has a conflicting session in schedule_db", ex.getMessage());
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    void testIndexMissIsConfirmedByScheduleDb() {
+        // Booked through another replica: not in this replica's index, but present in schedule_db
+        when(sessionRepository.existsTrainerOverlap(eq("trainer456"), any(), any(), any(), any())).thenReturn(true);
+
+        assertFalse(sessionService.isTrainerAvailable("trainer456",
+                mockSession.getStartTime(), mockSession.getEndTime()));
+        verify(sessionRepository, times(1)).existsTrainerOverlap(eq("trainer456"), any(), any(), any(), any());
+    }
+
+    @Test
+    void testScheduleBatchExpandsWeeklyRecurrence() {
+        LocalDate nextMonday = LocalDate.now().plusWeeks(1).with(DayOfWeek.MONDAY);
+        BatchBookingRequest request = BatchBookingRequest.builder()
+                .memberId("member123")
+                .trainerId("trainer456")
+                .recurrence(BatchBookingRequest.Recurrence.builder()
+                        .daysOfWeek(List.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY))
+                        .startTime(LocalTime.of(18, 0))
+                        .durationMinutes(60)
+                        .startDate(nextMonday)
+                        .weeks(2)
+                        .build())
+                .build();
+
+        when(sessionRepository.findActiveSessionsInWindow(anyString(), anyString(), any(), any(), any()))
+                .thenReturn(List.of());
+        when(sessionRepository.saveAllAndFlush(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        List<SessionDTO> result = sessionService.scheduleBatch(request);
+
+        assertEquals(4, result.size());
+        verify(bookingValidator, times(1)).validateBatch(eq("member123"), eq("trainer456"), anyList());
+        verify(sessionRepository, times(1)).findActiveSessionsInWindow(anyString(), anyString(), any(), any(), any());
+        verify(eventPublisher, times(1)).publishAll(argThat(events -> events.size() == 4));
+    }
+
+    @Test
+    void testScheduleBatchRejectsSlotClashingWithExistingSession() {
+        LocalDateTime start = LocalDateTime.now().plusDays(2).withNano(0);
+        BatchBookingRequest request = BatchBookingRequest.builder()
+                .memberId("member123")
+                .trainerId("trainer456")
+                .slots(List.of(new BatchBookingRequest.Slot(start, start.plusHours(1))))
+                .build();
+
+        Session existing = new Session();
+        existing.setMemberId("otherMember");
+        existing.setTrainerId("trainer456");
+        existing.setStartTime(start.minusMinutes(30));
+        existing.setEndTime(start.plusMinutes(30));
+        when(sessionRepository.findActiveSessionsInWindow(anyString(), anyString(), any(), any(), any()))
+                .thenReturn(List.of(existing));
+
+        assertThrows(SessionConflictException.class, () -> sessionService.scheduleBatch(request));
+        verify(sessionRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testListSessionsPageReturnsCursorWhenMoreRowsExist() {
+        Session next = new Session();
+        next.setId(UUID.randomUUID().toString());
+        next.setStartTime(mockSession.getStartTime().plusHours(1));
+        when(sessionRepository.findBy(any(Specification.class), any())).thenReturn(List.of(mockSession, next));
+
+        SessionPageDTO page = sessionService.listSessionsPage(new SessionFilter(), null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+
+        // The returned cursor is accepted as the position of the next page
+        when(sessionRepository.findBy(any(Specification.class), any())).thenReturn(List.of(next));
+        SessionPageDTO last = sessionService.listSessionsPage(new SessionFilter(), page.getNextCursor(), 1);
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamSessionsLoadsParticipantsOncePerChunk() throws Exception {
+        Session group = new Session();
+        group.setId("group-1");
+        group.setSessionType(Session.SessionType.GROUP);
+        group.setStartTime(mockSession.getStartTime().plusHours(1));
+        SessionParticipant participant = new SessionParticipant();
+        participant.setSession(group);
+        participant.setMemberId("member789");
+        when(sessionRepository.findBy(any(Specification.class), any())).thenReturn(Stream.of(mockSession, group));
+        when(participantRepository.findBySession_IdIn(List.of("group-1"))).thenReturn(List.of(participant));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        sessionService.streamSessions(new SessionFilter(), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].contains("\"memberId\":\"member789\""));
+        verify(participantRepository, times(1)).findBySession_IdIn(anyCollection());
+        verify(participantRepository, never()).findBySession_Id(anyString());
+    }
+
+    @Test
+    void testListSessionsPageRejectsInvalidCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> sessionService.listSessionsPage(new SessionFilter(), "not-a-cursor", 10));
+    }
+
     @AfterEach
     void banner() {
         log.info("? ? TESTE PASSOU COM SUCESSO ? ? ?");
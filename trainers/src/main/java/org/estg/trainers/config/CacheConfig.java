@@ -0,0 +1,21 @@
+package org.estg.trainers.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Opt-in read cache for trainer lookups (trainers.cache.enabled=true).
+ * The provider and its limits come from spring.cache.* (Caffeine by default); caches are declared
+ * up front so actuator binds their hit/miss/eviction meters. The caching advisor wraps the
+ * transactional one, so mutator evictions happen after commit.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "trainers.cache", name = "enabled", havingValue = "true")
+public class CacheConfig {
+
+    public static final String TRAINERS = "trainers";
+    public static final String TRAINER_LISTS = "trainerLists";
+}
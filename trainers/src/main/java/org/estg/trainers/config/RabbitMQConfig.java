@@ -1,5 +1,6 @@
 package org.estg.trainers.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
@@ -16,6 +17,7 @@ public class RabbitMQConfig {
     public static final String ROUTING_CREATED = "trainer.trainer_created";
     public static final String ROUTING_UPDATED = "trainer.trainer_updated";
     public static final String ROUTING_DELETED = "trainer.trainer_deleted";
+    public static final String ROUTING_SCHEDULE_CHANGED = "trainer.schedule_changed";
 
     @Value("${rabbitmq.exchange.name:trainers-exchange}")
     private String trainersExchangeName;
@@ -64,6 +66,17 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(trainerDeletedQueue).to(trainersExchange).with(ROUTING_DELETED);
     }
 
+    // Server-named, exclusive and auto-delete: one per replica, so every replica drops its availability cache
+    @Bean
+    public Queue trainerAvailabilityQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding trainerScheduleChangedBinding(DirectExchange trainersExchange, Queue trainerAvailabilityQueue) {
+        return BindingBuilder.bind(trainerAvailabilityQueue).to(trainersExchange).with(ROUTING_SCHEDULE_CHANGED);
+    }
+
     @Bean
     public MessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -0,0 +1,80 @@
+package org.estg.trainers.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Installs the unique index that keeps one schedule exception per trainer, date, type and start time.
+ * Whole-day exceptions have a null start_time, which a plain unique constraint treats as distinct, so the
+ * index is declared NULLS NOT DISTINCT (PostgreSQL 15+). Hibernate (ddl-auto) cannot express that, so it is
+ * added idempotently at startup, replacing the earlier plain constraint of the same name. Other databases
+ * (H2 in tests) are skipped; TrainersService checks for an existing row before inserting either way.
+ */
+@Component
+public class ScheduleExceptionSlotIndex implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleExceptionSlotIndex.class);
+
+    public static final String INDEX_NAME = "uk_trainer_schedule_exceptions_slot";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ScheduleExceptionSlotIndex(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!isPostgres()) {
+            return;
+        }
+
+        Integer installed = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE schemaname = current_schema() AND indexname = ?"
+                        + " AND indexdef LIKE '%NULLS NOT DISTINCT%'", Integer.class, INDEX_NAME);
+        if (installed != null && installed > 0) {
+            return;
+        }
+
+        try {
+            // Whole-day leave retried before this index existed was stored twice; keep the oldest row
+            int removed = jdbcTemplate.update("DELETE FROM trainer_schedule_exceptions e"
+                    + " USING trainer_schedule_exceptions o WHERE e.trainer_id = o.trainer_id AND e.exception_date = o.exception_date AND e.type = o.type"
+                    + " AND e.start_time IS NOT DISTINCT FROM o.start_time"
+                    + " AND e.end_time IS NOT DISTINCT FROM o.end_time"
+                    + " AND (e.created_at, e.id) > (o.created_at, o.id)");
+            if (removed > 0) {
+                log.info("Removed {} duplicate schedule exceptions", removed);
+            }
+            jdbcTemplate.execute("ALTER TABLE trainer_schedule_exceptions DROP CONSTRAINT IF EXISTS " + INDEX_NAME);
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + INDEX_NAME + " ON trainer_schedule_exceptions"
+                    + " (trainer_id, exception_date, type, start_time) NULLS NOT DISTINCT");
+            log.info("Schedule exception slot index {} installed", INDEX_NAME);
+        } catch (DataAccessException ex) {
+            // Remaining clashes (same start, different end) need a decision; do not run without the index
+            throw new IllegalStateException("Schedule exception slot index " + INDEX_NAME + " not installed: "
+                    + ex.getMostSpecificCause().getMessage(), ex);
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException ex) {
+            log.warn("Could not detect database type: {}", ex.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.estg.trainers.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Converts trainer_schedules.start_time/end_time from the former "HH:mm" varchar columns to native
+ * {@code time}, so slot containment can be compared in SQL.
+ * Hibernate (ddl-auto=update) never changes a column type, and the entity cannot read or write the old
+ * columns, so this runs before the entity manager factory is built. Idempotent; fresh schemas are created
+ * with {@code time} columns by Hibernate and other databases (H2 in tests) are skipped.
+ */
+@Configuration
+public class TrainerScheduleTimeColumns {
+
+    static final String MIGRATION_BEAN = "trainerScheduleTimeMigration";
+
+    @Bean(MIGRATION_BEAN)
+    Migration trainerScheduleTimeMigration(DataSource dataSource) {
+        return new Migration(dataSource);
+    }
+
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor trainerScheduleTimeMigrationFirst() {
+        return new EntityManagerFactoryDependsOnPostProcessor(MIGRATION_BEAN);
+    }
+
+    static class Migration implements InitializingBean {
+
+        private static final Logger log = LoggerFactory.getLogger(Migration.class);
+
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+
+        Migration(DataSource dataSource) {
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        @Override
+        public void afterPropertiesSet() {
+            if (!isPostgres()) {
+                return;
+            }
+
+            Integer textColumns = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM information_schema.columns"
+                            + " WHERE table_schema = current_schema() AND table_name = 'trainer_schedules'"
+                            + " AND column_name IN ('start_time', 'end_time') AND data_type = 'character varying'",
+                    Integer.class);
+            if (textColumns == null || textColumns == 0) {
+                return;
+            }
+
+            // "9:00" and "09:00" both cast; a malformed row fails the whole statement and leaves the table untouched
+            jdbcTemplate.execute("ALTER TABLE trainer_schedules"
+                    + " ALTER COLUMN start_time TYPE time USING start_time::time,"
+                    + " ALTER COLUMN end_time TYPE time USING end_time::time");
+            log.info("trainer_schedules start_time/end_time converted to time");
+        }
+
+        private boolean isPostgres() {
+            try (Connection connection = dataSource.getConnection()) {
+                return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            } catch (SQLException ex) {
+                log.warn("Could not detect database type: {}", ex.getMessage());
+                return false;
+            }
+        }
+    }
+}
@@ -1,17 +1,23 @@
 package org.estg.trainers.controller;
 
 import jakarta.validation.Valid;
+import org.estg.trainers.dto.AvailabilityQueryRequest;
+import org.estg.trainers.dto.AvailabilityQueryResponse;
 import org.estg.trainers.dto.AvailabilityResponse;
 import org.estg.trainers.dto.CreateTrainerRequest;
+import org.estg.trainers.dto.ScheduleExceptionDTO;
+import org.estg.trainers.dto.ScheduleExceptionRequest;
 import org.estg.trainers.dto.TrainerDTO;
 import org.estg.trainers.dto.UpdateAvailabilityRequest;
 import org.estg.trainers.dto.UpdateTrainerRequest;
+import org.estg.trainers.model.TrainerSpeciality;
 import org.estg.trainers.service.TrainersService;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -38,6 +44,18 @@ public class TrainersController {
         return ResponseEntity.ok(trainersService.getAllTrainers());
     }
 
+    // GET /api/trainers/available?speciality=STRENGTH&start=...&end=... - ranked by experience
+    @GetMapping("/available")
+    public ResponseEntity<List<TrainerDTO>> findAvailableTrainers(
+            @RequestParam(value = "speciality", required = false) TrainerSpeciality speciality,
+            @RequestParam("start")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam("end")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+    ) {
+        return ResponseEntity.ok(trainersService.findAvailableTrainers(speciality, start, end));
+    }
+
     // GET /api/trainers/{id}
     @GetMapping("/{id}")
     public ResponseEntity<TrainerDTO> getTrainerById(@PathVariable String id) {
@@ -80,4 +98,37 @@ public class TrainersController {
         boolean available = trainersService.isTrainerAvailable(id, startTime, endTime);
         return ResponseEntity.ok(new AvailabilityResponse(available));
     }
+
+    // POST /api/trainers/availability:query - free intervals of many trainers over a date range
+    @PostMapping("/availability:query")
+    public ResponseEntity<AvailabilityQueryResponse> queryAvailability(@RequestBody AvailabilityQueryRequest request) {
+        return ResponseEntity.ok(trainersService.queryAvailability(request));
+    }
+
+    // POST /api/trainers/{id}/exceptions - leave or extra hours on dates [from, to]
+    @PostMapping("/{id}/exceptions")
+    public ResponseEntity<List<ScheduleExceptionDTO>> addScheduleExceptions(
+            @PathVariable String id,
+            @RequestBody ScheduleExceptionRequest request
+    ) {
+        List<ScheduleExceptionDTO> created = trainersService.addScheduleExceptions(id, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    // GET /api/trainers/{id}/exceptions?from=2030-08-01&to=2030-08-31
+    @GetMapping("/{id}/exceptions")
+    public ResponseEntity<List<ScheduleExceptionDTO>> getScheduleExceptions(
+            @PathVariable String id,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(trainersService.getScheduleExceptions(id, from, to));
+    }
+
+    // DELETE /api/trainers/{id}/exceptions/{exceptionId}
+    @DeleteMapping("/{id}/exceptions/{exceptionId}")
+    public ResponseEntity<Void> deleteScheduleException(@PathVariable String id, @PathVariable String exceptionId) {
+        trainersService.deleteScheduleException(id, exceptionId);
+        return ResponseEntity.noContent().build();
+    }
 }
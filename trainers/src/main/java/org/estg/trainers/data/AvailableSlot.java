@@ -0,0 +1,10 @@
+package org.estg.trainers.data;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * One AVAILABLE weekly slot, projected without loading the schedule or trainer entities.
+ */
+public record AvailableSlot(String trainerId, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+}
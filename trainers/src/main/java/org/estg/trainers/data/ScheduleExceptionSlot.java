@@ -0,0 +1,13 @@
+package org.estg.trainers.data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.estg.trainers.model.TrainerScheduleException;
+
+/**
+ * One dated schedule exception, projected without loading entities. Null times mean the whole day.
+ */
+public record ScheduleExceptionSlot(String trainerId, LocalDate date, TrainerScheduleException.ExceptionType type,
+                                    LocalTime startTime, LocalTime endTime) {
+}
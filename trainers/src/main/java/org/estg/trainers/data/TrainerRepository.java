@@ -2,8 +2,13 @@ package org.estg.trainers.data;
 
 import org.estg.trainers.model.Trainer;
 import org.estg.trainers.model.TrainerSpeciality;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 public interface TrainerRepository extends CrudRepository<Trainer, String> {
@@ -11,4 +16,38 @@ public interface TrainerRepository extends CrudRepository<Trainer, String> {
     boolean existsByEmail(String email);
 
     List<Trainer> findBySpeciality(TrainerSpeciality speciality);
+
+    /**
+     * ACTIVE trainers (optionally of one speciality) with an AVAILABLE weekly slot on {@code day}, or an
+     * AVAILABLE exception on {@code date}, that contains minute {@code at}, and no whole-day leave on
+     * {@code date}; most experienced first. A necessary condition for being free from {@code at} on;
+     * callers confirm the whole interval on the dated week, which may span adjacent slots and partial leave.
+     */
+    @Query("""
+            select t from Trainer t
+            where t.status = org.estg.trainers.model.TrainerStatus.ACTIVE
+              and (:speciality is null or t.speciality = :speciality)
+              and (exists (select 1 from TrainerSchedule s
+                           where s.trainer = t
+                             and s.dayOfWeek = :day
+                             and s.status = org.estg.trainers.model.TrainerSchedule.ScheduleStatus.AVAILABLE
+                             and s.startTime <= :at
+                             and s.endTime > :at)
+                   or exists (select 1 from TrainerScheduleException e
+                              where e.trainer = t
+                                and e.date = :date
+                                and e.type = org.estg.trainers.model.TrainerScheduleException.ExceptionType.AVAILABLE
+                                and e.startTime <= :at
+                                and e.endTime > :at))
+              and not exists (select 1 from TrainerScheduleException e
+                              where e.trainer = t
+                                and e.date = :date
+                                and e.type = org.estg.trainers.model.TrainerScheduleException.ExceptionType.UNAVAILABLE
+                                and e.startTime is null)
+            order by t.yearsExperience desc nulls last, t.fullName, t.id
+            """)
+    List<Trainer> findActiveWithSlotAt(@Param("speciality") TrainerSpeciality speciality,
+                                       @Param("date") LocalDate date,
+                                       @Param("day") DayOfWeek day,
+                                       @Param("at") LocalTime at);
 }
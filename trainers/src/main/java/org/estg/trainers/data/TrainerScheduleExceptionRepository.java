@@ -0,0 +1,33 @@
+package org.estg.trainers.data;
+
+import org.estg.trainers.model.TrainerScheduleException;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TrainerScheduleExceptionRepository extends CrudRepository<TrainerScheduleException, String> {
+
+    List<TrainerScheduleException> findByTrainerIdAndDateBetweenOrderByDateAscStartTimeAsc(String trainerId,
+                                                                                          LocalDate from,
+                                                                                          LocalDate to);
+
+    Optional<TrainerScheduleException> findByIdAndTrainerId(String id, String trainerId);
+
+    void deleteByTrainerId(String trainerId);
+
+    // Exceptions of many trainers over [from, to] in one statement (feeds the per-week availability views)
+    @Query("""
+            select new org.estg.trainers.data.ScheduleExceptionSlot(e.trainer.id, e.date, e.type, e.startTime, e.endTime)
+            from TrainerScheduleException e
+            where e.trainer.id in :trainerIds
+              and e.date between :from and :to
+            """)
+    List<ScheduleExceptionSlot> findSlots(@Param("trainerIds") Collection<String> trainerIds,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+}
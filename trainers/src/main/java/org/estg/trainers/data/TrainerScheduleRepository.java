@@ -1,9 +1,12 @@
 package org.estg.trainers.data;
 
 import org.estg.trainers.model.TrainerSchedule;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.time.DayOfWeek;
+import java.util.Collection;
 import java.util.List;
 
 public interface TrainerScheduleRepository extends CrudRepository<TrainerSchedule, String> {
@@ -19,4 +22,13 @@ public interface TrainerScheduleRepository extends CrudRepository<TrainerSchedul
                                                                TrainerSchedule.ScheduleStatus status);
 
     void deleteByTrainerId(String trainerId);
+
+    // AVAILABLE slots of many trainers in one statement, as projections (feeds TrainerAvailabilityIndex)
+    @Query("""
+            select new org.estg.trainers.data.AvailableSlot(s.trainer.id, s.dayOfWeek, s.startTime, s.endTime)
+            from TrainerSchedule s
+            where s.trainer.id in :trainerIds
+              and s.status = org.estg.trainers.model.TrainerSchedule.ScheduleStatus.AVAILABLE
+            """)
+    List<AvailableSlot> findAvailableSlots(@Param("trainerIds") Collection<String> trainerIds);
 }
@@ -0,0 +1,204 @@
+package org.estg.trainers.domain.availability;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A trainer's weekly template, or one dated week of it with exceptions applied, compiled to one bit per
+ * minute (1440 bits, 23 longs per day).
+ * Bit m of a day is set when minute [m, m+1) lies inside an AVAILABLE slot, so a containment check is a
+ * handful of masked word comparisons. Slots are half-open [start, end) and adjacent slots merge.
+ * Instances are immutable; use {@link #builder()}.
+ */
+public final class WeeklyAvailability {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private static final WeeklyAvailability EMPTY = new WeeklyAvailability(new long[7 * WORDS_PER_DAY]);
+
+    // Day-major: the words of day d start at (d.getValue() - 1) * WORDS_PER_DAY
+    private final long[] words;
+
+    private WeeklyAvailability(long[] words) {
+        this.words = words;
+    }
+
+    public static WeeklyAvailability empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** A builder starting from this availability, e.g. to apply a dated week's exceptions to the template. */
+    public Builder toBuilder() {
+        return new Builder(words.clone());
+    }
+
+    /**
+     * Whether every minute of [start, end) on {@code day} is available. Seconds are ignored, as with the
+     * former "HH:mm" comparison; an interval that collapses to one minute checks that minute.
+     */
+    public boolean covers(DayOfWeek day, LocalTime start, LocalTime end) {
+        int from = minuteOf(start);
+        return covers(day, from, Math.max(minuteOf(end), from + 1));
+    }
+
+    /** Whether every minute of [startMinute, endMinute) on {@code day} is available. */
+    public boolean covers(DayOfWeek day, int startMinute, int endMinute) {
+        checkRange(startMinute, endMinute);
+        int base = offset(day);
+        for (int word = startMinute >>> 6; word <= (endMinute - 1) >>> 6; word++) {
+            long mask = mask(word, startMinute, endMinute);
+            if ((words[base + word] & mask) != mask) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The maximal available runs of {@code day}, in order, as half-open minute ranges. */
+    public List<MinuteRange> intervals(DayOfWeek day) {
+        int base = offset(day);
+        List<MinuteRange> result = new ArrayList<>();
+        int minute = nextSet(base, 0);
+        while (minute < MINUTES_PER_DAY) {
+            int end = nextClear(base, minute);
+            result.add(new MinuteRange(minute, end));
+            minute = nextSet(base, end);
+        }
+        return result;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // First set minute at or after {@code from}, or MINUTES_PER_DAY
+    private int nextSet(int base, int from) {
+        if (from >= MINUTES_PER_DAY) {
+            return MINUTES_PER_DAY;
+        }
+        int word = from >>> 6;
+        long bits = words[base + word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == WORDS_PER_DAY) {
+                return MINUTES_PER_DAY;
+            }
+            bits = words[base + word];
+        }
+        return Math.min((word << 6) + Long.numberOfTrailingZeros(bits), MINUTES_PER_DAY);
+    }
+
+    // First clear minute at or after {@code from}, or MINUTES_PER_DAY
+    private int nextClear(int base, int from) {
+        int word = from >>> 6;
+        long bits = ~words[base + word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == WORDS_PER_DAY) {
+                return MINUTES_PER_DAY;
+            }
+            bits = ~words[base + word];
+        }
+        return Math.min((word << 6) + Long.numberOfTrailingZeros(bits), MINUTES_PER_DAY);
+    }
+
+    public static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int offset(DayOfWeek day) {
+        return (day.getValue() - 1) * WORDS_PER_DAY;
+    }
+
+    // Bits of word {@code word} that fall inside [start, end)
+    private static long mask(int word, int start, int end) {
+        int wordStart = word << 6;
+        int lo = Math.max(start, wordStart) - wordStart;
+        int hi = Math.min(end, wordStart + Long.SIZE) - wordStart;
+        long upTo = hi == Long.SIZE ? -1L : (1L << hi) - 1;
+        return upTo & (-1L << lo);
+    }
+
+    private static void checkRange(int startMinute, int endMinute) {
+        if (startMinute < 0 || endMinute > MINUTES_PER_DAY || startMinute >= endMinute) {
+            throw new IllegalArgumentException("Invalid minute range [" + startMinute + ", " + endMinute + ")");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof WeeklyAvailability other && Arrays.equals(words, other.words));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    /** Minutes [start, end) of a day. */
+    public record MinuteRange(int start, int end) {
+    }
+
+    public static final class Builder {
+
+        private final long[] words;
+
+        private Builder() {
+            this(new long[7 * WORDS_PER_DAY]);
+        }
+
+        private Builder(long[] words) {
+            this.words = words;
+        }
+
+        /** Marks [startMinute, endMinute) of {@code day} available. */
+        public Builder add(DayOfWeek day, int startMinute, int endMinute) {
+            checkRange(startMinute, endMinute);
+            int base = offset(day);
+            for (int word = startMinute >>> 6; word <= (endMinute - 1) >>> 6; word++) {
+                words[base + word] |= mask(word, startMinute, endMinute);
+            }
+            return this;
+        }
+
+        public Builder add(DayOfWeek day, LocalTime start, LocalTime end) {
+            return add(day, minuteOf(start), minuteOf(end));
+        }
+
+        /** Marks [startMinute, endMinute) of {@code day} unavailable. */
+        public Builder remove(DayOfWeek day, int startMinute, int endMinute) {
+            checkRange(startMinute, endMinute);
+            int base = offset(day);
+            for (int word = startMinute >>> 6; word <= (endMinute - 1) >>> 6; word++) {
+                words[base + word] &= ~mask(word, startMinute, endMinute);
+            }
+            return this;
+        }
+
+        public Builder remove(DayOfWeek day, LocalTime start, LocalTime end) {
+            return remove(day, minuteOf(start), minuteOf(end));
+        }
+
+        /** Marks the whole of {@code day} unavailable. */
+        public Builder clear(DayOfWeek day) {
+            Arrays.fill(words, offset(day), offset(day) + WORDS_PER_DAY, 0L);
+            return this;
+        }
+
+        public WeeklyAvailability build() {
+            return new WeeklyAvailability(words.clone());
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package org.estg.trainers.domain.event;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
 
+/**
+ * Something a trainer's availability is computed from changed: weekly slots, dated exceptions or status.
+ * Published after commit so every replica drops its cached availability of the trainer.
+ */
 @Data
-@AllArgsConstructor
-public class ScheduleChangedEvent {
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class ScheduleChangedEvent extends TrainerEvent {
 
-    private String trainerId;
-    private String changeType; // ADDED, UPDATED, REMOVED
-    private LocalDateTime changedAt;
+    public ScheduleChangedEvent(String trainerId, LocalDateTime changedAt) {
+        super(UUID.randomUUID().toString(), trainerId, changedAt, "TRAINER_SCHEDULE_CHANGED");
+    }
 }
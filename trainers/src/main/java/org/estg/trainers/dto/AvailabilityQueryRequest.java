@@ -0,0 +1,21 @@
+package org.estg.trainers.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * POST /api/trainers/availability:query - trainers and an inclusive date range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityQueryRequest {
+
+    private List<String> trainerIds;
+    private LocalDate from;
+    private LocalDate to;
+}
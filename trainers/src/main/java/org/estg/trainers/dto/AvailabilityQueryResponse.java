@@ -0,0 +1,47 @@
+package org.estg.trainers.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.estg.trainers.model.TrainerStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Free intervals per trainer over the requested dates, from the weekly AVAILABLE schedule.
+ * Trainers that are not ACTIVE are listed with no intervals; ids that do not exist are in
+ * {@code unknownTrainerIds}. Sessions already booked in schedule-service are not subtracted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityQueryResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private List<TrainerAvailability> trainers;
+    private List<String> unknownTrainerIds;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrainerAvailability {
+
+        private String trainerId;
+        private TrainerStatus status;
+        private List<Interval> free;
+    }
+
+    /** Half-open [start, end). */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Interval {
+
+        private LocalDateTime start;
+        private LocalDateTime end;
+    }
+}
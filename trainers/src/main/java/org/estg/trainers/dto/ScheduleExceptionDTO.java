@@ -0,0 +1,40 @@
+package org.estg.trainers.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.estg.trainers.model.TrainerScheduleException;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleExceptionDTO {
+
+    private String id;
+    private String trainerId;
+    private LocalDate date;
+    private TrainerScheduleException.ExceptionType type;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String reason;
+
+    public static ScheduleExceptionDTO fromEntity(TrainerScheduleException exception, String trainerId) {
+        if (exception == null) return null;
+
+        return ScheduleExceptionDTO.builder()
+                .id(exception.getId())
+                .trainerId(trainerId)
+                .date(exception.getDate())
+                .type(exception.getType())
+                .startTime(exception.getStartTime())
+                .endTime(exception.getEndTime())
+                .reason(exception.getReason())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package org.estg.trainers.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.estg.trainers.model.TrainerScheduleException;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * POST /api/trainers/{id}/exceptions - one exception per date in [from, to] (to defaults to from).
+ * Leave is {@code type=UNAVAILABLE} without times; extra hours are {@code type=AVAILABLE} with times.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleExceptionRequest {
+
+    private LocalDate from;
+    private LocalDate to;
+    private TrainerScheduleException.ExceptionType type;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String reason;
+}
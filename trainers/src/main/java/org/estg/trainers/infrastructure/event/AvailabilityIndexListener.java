@@ -0,0 +1,53 @@
+package org.estg.trainers.infrastructure.event;
+
+import org.estg.trainers.service.TrainerAvailabilityIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drops this replica's cached availability of a trainer when any replica commits a schedule, leave or
+ * status change. Each replica consumes its own anonymous queue, so every replica sees every change.
+ */
+@Component
+@Profile({"docker", "k8s"})
+public class AvailabilityIndexListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityIndexListener.class);
+
+    private final TrainerAvailabilityIndex availabilityIndex;
+    private final ObjectMapper objectMapper;
+
+    public AvailabilityIndexListener(TrainerAvailabilityIndex availabilityIndex, ObjectMapper objectMapper) {
+        this.availabilityIndex = availabilityIndex;
+        this.objectMapper = objectMapper;
+    }
+
+    @RabbitListener(queues = "#{trainerAvailabilityQueue.name}")
+    public void onScheduleChanged(Message message) {
+        String trainerId = readTrainerId(message);
+        if (!trainerId.isBlank()) {
+            availabilityIndex.evict(trainerId);
+            log.debug("Trainer availability evicted. trainerId={}", trainerId);
+        }
+    }
+
+    private String readTrainerId(Message message) {
+        if (message == null || message.getBody() == null) {
+            return "";
+        }
+        try {
+            JsonNode value = objectMapper.readTree(message.getBody()).get("trainerId");
+            return value == null || value.isNull() ? "" : value.asText("");
+        } catch (Exception ex) {
+            log.error("Failed to read trainerId from schedule change event", ex);
+            return "";
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.estg.trainers.infrastructure.event;
 import org.estg.trainers.config.RabbitMQConfig;
+import org.estg.trainers.domain.event.ScheduleChangedEvent;
 import org.estg.trainers.domain.event.TrainerEvent;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,6 +27,9 @@ public class RabbitMQEventPublisher implements EventPublisher {
         rabbitTemplate.convertAndSend(exchangeName, routingKey, event);
     }
     private String resolveRoutingKey(TrainerEvent event) {
+        if (event instanceof ScheduleChangedEvent) {
+            return RabbitMQConfig.ROUTING_SCHEDULE_CHANGED;
+        }
         // Prefer the eventType if your domain event provides it (common pattern in your codebase).
         String eventType = event.getEventType();
         if (eventType != null) {
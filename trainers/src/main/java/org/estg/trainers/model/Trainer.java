@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "trainers")
+@Table(name = "trainers", indexes = {
+        @Index(name = "idx_trainers_speciality_status", columnList = "speciality, status")
+})
 public class Trainer {
 
     @Id
@@ -2,6 +2,9 @@ package org.estg.trainers.model;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.estg.trainers.service.TrainerScheduleChangeListener;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -9,7 +12,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "trainer_schedules")
+@Table(name = "trainer_schedules", indexes = {
+        // Equality prefix of every availability lookup; the times make it covering for containment checks
+        @Index(name = "idx_trainer_schedules_trainer_day_status",
+                columnList = "trainer_id, day_of_week, status, start_time, end_time")
+})
+@EntityListeners(TrainerScheduleChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,10 +36,10 @@ public class TrainerSchedule {
     private DayOfWeek dayOfWeek;
 
     @Column(nullable = false)
-    private String startTime; // HH:mm format
+    private LocalTime startTime;
 
     @Column(nullable = false)
-    private String endTime; // HH:mm format
+    private LocalTime endTime;
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
@@ -63,25 +71,14 @@ public class TrainerSchedule {
         if (dayOfWeek == null) {
             throw new IllegalArgumentException("Day of week is required");
         }
-        if (startTime == null || startTime.isBlank()) {
+        if (startTime == null) {
             throw new IllegalArgumentException("Start time is required");
         }
-        if (endTime == null || endTime.isBlank()) {
+        if (endTime == null) {
             throw new IllegalArgumentException("End time is required");
         }
-        if (!isValidTimeFormat(startTime) || !isValidTimeFormat(endTime)) {
-            throw new IllegalArgumentException("Time must be in HH:mm format");
-        }
-        if (isTimeAfter(startTime, endTime)) {
+        if (!startTime.isBefore(endTime)) {
             throw new IllegalArgumentException("Start time must be before end time");
         }
     }
-
-    private boolean isValidTimeFormat(String time) {
-        return time.matches("^([0-1]?[0-9]|2[0-3]):[0-5][0-9]$");
-    }
-
-    private boolean isTimeAfter(String time1, String time2) {
-        return time1.compareTo(time2) >= 0;
-    }
 }
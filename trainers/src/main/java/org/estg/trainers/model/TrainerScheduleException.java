@@ -0,0 +1,65 @@
+package org.estg.trainers.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.estg.trainers.service.TrainerScheduleChangeListener;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A date-specific change to a trainer's weekly schedule: time off (UNAVAILABLE, e.g. holidays or leave)
+ * or extra hours (AVAILABLE). Without start/end times it applies to the whole day.
+ */
+@Entity
+@Table(name = "trainer_schedule_exceptions", indexes = {
+        @Index(name = "idx_trainer_schedule_exceptions_trainer_date", columnList = "trainer_id, exception_date")
+})
+// One row per trainer, date, type and start time, whole-day rows included: see ScheduleExceptionSlotIndex
+@EntityListeners(TrainerScheduleChangeListener.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerScheduleException {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @ManyToOne
+    @JoinColumn(name = "trainer_id", nullable = false)
+    private Trainer trainer;
+
+    @Column(name = "exception_date", nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ExceptionType type;
+
+    private LocalTime startTime;
+
+    private LocalTime endTime;
+
+    private String reason;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum ExceptionType {
+        AVAILABLE, UNAVAILABLE
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public boolean isWholeDay() {
+        return startTime == null && endTime == null;
+    }
+}
@@ -0,0 +1,296 @@
+package org.estg.trainers.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.estg.trainers.data.AvailableSlot;
+import org.estg.trainers.data.ScheduleExceptionSlot;
+import org.estg.trainers.data.TrainerRepository;
+import org.estg.trainers.data.TrainerScheduleExceptionRepository;
+import org.estg.trainers.data.TrainerScheduleRepository;
+import org.estg.trainers.domain.availability.WeeklyAvailability;
+import org.estg.trainers.domain.event.ScheduleChangedEvent;
+import org.estg.trainers.exceptions.TrainerNotFoundException;
+import org.estg.trainers.infrastructure.event.EventPublisher;
+import org.estg.trainers.model.Trainer;
+import org.estg.trainers.model.TrainerScheduleException;
+import org.estg.trainers.model.TrainerStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * In-memory availability per trainer: status plus the AVAILABLE weekly slots compiled to a
+ * {@link WeeklyAvailability} bitmap. Loaded on first use (misses of a bulk lookup in two set-based
+ * queries, whatever their number) and dropped when the trainer or one of its schedules changes. The
+ * change is also published after commit as a {@link ScheduleChangedEvent}, which every replica applies
+ * through {@link #evict}; trainers.availability.ttl only bounds staleness when that event is lost.
+ * <p>
+ * Dated answers come from a second cache keyed by trainer and week: the template with that week's
+ * schedule exceptions applied (extra AVAILABLE hours first, then UNAVAILABLE time, so leave always wins).
+ * Weeks without exceptions share the template bitmap.
+ */
+@Component
+public class TrainerAvailabilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainerAvailabilityIndex.class);
+
+    public record TrainerAvailability(TrainerStatus status, WeeklyAvailability weekly) {
+    }
+
+    /** One calendar week of a trainer, starting on {@code monday}. */
+    public record WeekKey(String trainerId, LocalDate monday) {
+
+        public static WeekKey of(String trainerId, LocalDate date) {
+            return new WeekKey(trainerId, date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+        }
+    }
+
+    private final TrainerRepository trainerRepository;
+    private final TrainerScheduleRepository scheduleRepository;
+    private final TrainerScheduleExceptionRepository exceptionRepository;
+    private final EventPublisher eventPublisher;
+    private final LoadingCache<String, TrainerAvailability> entries;
+    private final LoadingCache<WeekKey, WeeklyAvailability> weeks;
+
+    public TrainerAvailabilityIndex(TrainerRepository trainerRepository,
+                                    TrainerScheduleRepository scheduleRepository,
+                                    TrainerScheduleExceptionRepository exceptionRepository,
+                                    EventPublisher eventPublisher,
+                                    @Value("${trainers.availability.ttl:10m}") Duration ttl,
+                                    @Value("${trainers.availability.max-trainers:10000}") long maxTrainers,
+                                    @Value("${trainers.availability.max-weeks:50000}") long maxWeeks) {
+        this.trainerRepository = trainerRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.eventPublisher = eventPublisher;
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxTrainers)
+                .build(new CacheLoader<>() {
+                    @Override
+                    public TrainerAvailability load(String trainerId) {
+                        TrainerAvailability loaded = loadAll(Set.of(trainerId)).get(trainerId);
+                        if (loaded == null) {
+                            throw new TrainerNotFoundException(trainerId);
+                        }
+                        return loaded;
+                    }
+
+                    @Override
+                    public Map<String, TrainerAvailability> loadAll(Set<? extends String> trainerIds) {
+                        return TrainerAvailabilityIndex.this.loadAll(trainerIds);
+                    }
+                });
+        this.weeks = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxWeeks)
+                .build(new CacheLoader<>() {
+                    @Override
+                    public WeeklyAvailability load(WeekKey key) {
+                        WeeklyAvailability loaded = loadWeeks(Set.of(key)).get(key);
+                        if (loaded == null) {
+                            throw new TrainerNotFoundException(key.trainerId());
+                        }
+                        return loaded;
+                    }
+
+                    @Override
+                    public Map<WeekKey, WeeklyAvailability> loadAll(Set<? extends WeekKey> keys) {
+                        return loadWeeks(keys);
+                    }
+                });
+    }
+
+    /**
+     * @throws TrainerNotFoundException if the trainer does not exist (absence is not cached)
+     */
+    public TrainerAvailability get(String trainerId) {
+        return entries.get(trainerId);
+    }
+
+    /**
+     * Entries of the given trainers; unknown ids are left out.
+     */
+    public Map<String, TrainerAvailability> getAll(Collection<String> trainerIds) {
+        return entries.getAll(trainerIds);
+    }
+
+    /**
+     * The trainer's availability in the calendar week holding {@code date}, exceptions applied.
+     *
+     * @throws TrainerNotFoundException if the trainer does not exist
+     */
+    public WeeklyAvailability week(String trainerId, LocalDate date) {
+        return weeks.get(WeekKey.of(trainerId, date));
+    }
+
+    /**
+     * Dated weeks of the given trainers covering [from, to], missing ones loaded together;
+     * unknown ids are left out.
+     */
+    public Map<WeekKey, WeeklyAvailability> weeks(Collection<String> trainerIds, LocalDate from, LocalDate to) {
+        List<WeekKey> keys = new ArrayList<>();
+        for (String trainerId : trainerIds) {
+            for (LocalDate monday = WeekKey.of(trainerId, from).monday(); !monday.isAfter(to); monday = monday.plusWeeks(1)) {
+                keys.add(new WeekKey(trainerId, monday));
+            }
+        }
+        return weeks.getAll(keys);
+    }
+
+    /**
+     * Drops the trainer's entry now and again once the current transaction completes, so a read racing
+     * the write cannot leave the pre-commit state cached; on commit, tells the other replicas to drop theirs.
+     * Within a transaction each trainer is handled once, however many of its rows the transaction writes.
+     */
+    public void invalidate(String trainerId) {
+        if (trainerId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            drop(trainerId);
+            broadcast(trainerId);
+            return;
+        }
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        if (pending.trainerIds.add(trainerId)) {
+            drop(trainerId);
+        }
+    }
+
+    /** Drops the trainer's cached entries on this replica only; applies a change committed elsewhere. */
+    public void evict(String trainerId) {
+        drop(trainerId);
+    }
+
+    // Best effort: the TTL bounds staleness on replicas that miss the event
+    private void broadcast(String trainerId) {
+        try {
+            eventPublisher.publish(new ScheduleChangedEvent(trainerId, LocalDateTime.now()));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to publish schedule change for trainer {}: {}", trainerId, ex.getMessage());
+        }
+    }
+
+    // Week keys are not indexed by trainer: a scan of the bounded week cache is cheap next to a write
+    private void drop(String trainerId) {
+        entries.invalidate(trainerId);
+        weeks.asMap().keySet().removeIf(key -> key.trainerId().equals(trainerId));
+    }
+
+    // Trainers invalidated by the current transaction, bound to it as a resource keyed by this index
+    private final class PendingInvalidations implements TransactionSynchronization {
+
+        private final Set<String> trainerIds = new LinkedHashSet<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TrainerAvailabilityIndex.this);
+            for (String trainerId : trainerIds) {
+                drop(trainerId);
+                if (status == STATUS_COMMITTED) {
+                    broadcast(trainerId);
+                }
+            }
+        }
+    }
+
+    private Map<String, TrainerAvailability> loadAll(Set<? extends String> trainerIds) {
+        Map<String, WeeklyAvailability.Builder> weekly = new HashMap<>();
+        for (AvailableSlot slot : scheduleRepository.findAvailableSlots(Set.copyOf(trainerIds))) {
+            if (slot.startTime().isBefore(slot.endTime())) {
+                weekly.computeIfAbsent(slot.trainerId(), id -> WeeklyAvailability.builder())
+                        .add(slot.dayOfWeek(), slot.startTime(), slot.endTime());
+            }
+        }
+
+        Map<String, TrainerAvailability> loaded = new HashMap<>();
+        for (Trainer trainer : trainerRepository.findAllById(Set.copyOf(trainerIds))) {
+            WeeklyAvailability.Builder builder = weekly.get(trainer.getId());
+            loaded.put(trainer.getId(), new TrainerAvailability(trainer.getStatus(),
+                    builder != null ? builder.build() : WeeklyAvailability.empty()));
+        }
+        return loaded;
+    }
+
+    // Templates come from the trainer entries; exceptions of all requested weeks in one query
+    private Map<WeekKey, WeeklyAvailability> loadWeeks(Set<? extends WeekKey> keys) {
+        Set<String> trainerIds = new HashSet<>();
+        LocalDate first = null;
+        LocalDate last = null;
+        for (WeekKey key : keys) {
+            trainerIds.add(key.trainerId());
+            first = first == null || key.monday().isBefore(first) ? key.monday() : first;
+            last = last == null || key.monday().isAfter(last) ? key.monday() : last;
+        }
+        Map<String, TrainerAvailability> templates = entries.getAll(trainerIds);
+
+        Map<WeekKey, List<ScheduleExceptionSlot>> exceptions = new HashMap<>();
+        if (!templates.isEmpty()) {
+            for (ScheduleExceptionSlot slot : exceptionRepository.findSlots(templates.keySet(), first, last.plusDays(6))) {
+                exceptions.computeIfAbsent(WeekKey.of(slot.trainerId(), slot.date()), k -> new ArrayList<>()).add(slot);
+            }
+        }
+
+        Map<WeekKey, WeeklyAvailability> loaded = new HashMap<>();
+        for (WeekKey key : keys) {
+            TrainerAvailability template = templates.get(key.trainerId());
+            if (template != null) {
+                loaded.put(key, applyExceptions(template.weekly(), exceptions.get(key)));
+            }
+        }
+        return loaded;
+    }
+
+    private static WeeklyAvailability applyExceptions(WeeklyAvailability template, List<ScheduleExceptionSlot> exceptions) {
+        if (exceptions == null) {
+            return template;
+        }
+        WeeklyAvailability.Builder builder = template.toBuilder();
+        for (ScheduleExceptionSlot slot : exceptions) {
+            if (slot.type() == TrainerScheduleException.ExceptionType.AVAILABLE && hasTimes(slot)) {
+                builder.add(slot.date().getDayOfWeek(), slot.startTime(), slot.endTime());
+            }
+        }
+        for (ScheduleExceptionSlot slot : exceptions) {
+            if (slot.type() != TrainerScheduleException.ExceptionType.UNAVAILABLE) {
+                continue;
+            }
+            if (slot.startTime() == null || slot.endTime() == null) {
+                builder.clear(slot.date().getDayOfWeek());
+            } else if (hasTimes(slot)) {
+                builder.remove(slot.date().getDayOfWeek(), slot.startTime(), slot.endTime());
+            }
+        }
+        return builder.build();
+    }
+
+    private static boolean hasTimes(ScheduleExceptionSlot slot) {
+        return slot.startTime() != null && slot.endTime() != null
+                && WeeklyAvailability.minuteOf(slot.startTime()) < WeeklyAvailability.minuteOf(slot.endTime());
+    }
+}
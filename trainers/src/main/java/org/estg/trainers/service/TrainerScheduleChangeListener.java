@@ -0,0 +1,39 @@
+package org.estg.trainers.service;
+
+import org.estg.trainers.model.Trainer;
+import org.estg.trainers.model.TrainerSchedule;
+import org.estg.trainers.model.TrainerScheduleException;
+import org.springframework.beans.factory.ObjectProvider;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on {@link TrainerSchedule} and {@link TrainerScheduleException}: any persisted slot or
+ * exception change drops the owning trainer's entries in the {@link TrainerAvailabilityIndex}. Instantiated by Hibernate through Spring's bean container.
+ */
+public class TrainerScheduleChangeListener {
+
+    private final ObjectProvider<TrainerAvailabilityIndex> availabilityIndex;
+
+    public TrainerScheduleChangeListener(ObjectProvider<TrainerAvailabilityIndex> availabilityIndex) {
+        this.availabilityIndex = availabilityIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void scheduleChanged(Object entity) {
+        Trainer trainer = null;
+        if (entity instanceof TrainerSchedule schedule) {
+            trainer = schedule.getTrainer();
+        } else if (entity instanceof TrainerScheduleException exception) {
+            trainer = exception.getTrainer();
+        }
+        if (trainer != null) {
+            String trainerId = trainer.getId();
+            availabilityIndex.ifAvailable(index -> index.invalidate(trainerId));
+        }
+    }
+}
@@ -1,45 +1,81 @@
 package org.estg.trainers.service;
 
+import org.estg.trainers.config.CacheConfig;
 import org.estg.trainers.data.TrainerRepository;
+import org.estg.trainers.data.TrainerScheduleExceptionRepository;
 import org.estg.trainers.data.TrainerScheduleRepository;
+import org.estg.trainers.domain.availability.WeeklyAvailability;
+import org.estg.trainers.dto.AvailabilityQueryRequest;
+import org.estg.trainers.dto.AvailabilityQueryResponse;
 import org.estg.trainers.dto.CreateTrainerRequest;
+import org.estg.trainers.dto.ScheduleExceptionDTO;
+import org.estg.trainers.dto.ScheduleExceptionRequest;
 import org.estg.trainers.dto.TrainerDTO;
 import org.estg.trainers.dto.UpdateAvailabilityRequest;
 import org.estg.trainers.dto.UpdateTrainerRequest;
 import org.estg.trainers.exceptions.DuplicateTrainerException;
+import org.estg.trainers.exceptions.ResourceNotFoundException;
+import org.estg.trainers.exceptions.ScheduleConflictException;
 import org.estg.trainers.exceptions.TrainerNotFoundException;
 import org.estg.trainers.model.CertificationStatus;
 import org.estg.trainers.model.Trainer;
-import org.estg.trainers.model.TrainerSchedule;
+import org.estg.trainers.model.TrainerScheduleException;
 import org.estg.trainers.model.TrainerSpeciality;
 import org.estg.trainers.model.TrainerStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class TrainersService {
 
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
-
     private final TrainerRepository trainerRepository;
     private final TrainerScheduleRepository scheduleRepository;
+    private final TrainerScheduleExceptionRepository exceptionRepository;
+    private final TrainerAvailabilityIndex availabilityIndex;
+
+    @Value("${trainers.availability.query.max-trainers:100}")
+    private int maxQueryTrainers = 100;
+
+    @Value("${trainers.availability.query.max-days:92}")
+    private int maxQueryDays = 92;
+
+    @Value("${trainers.availability.search.max-results:50}")
+    private int maxAvailableResults = 50;
 
-    public TrainersService(TrainerRepository trainerRepository, TrainerScheduleRepository scheduleRepository) {
+    @Value("${trainers.availability.exceptions.max-days:366}")
+    private int maxExceptionDays = 366;
+
+    public TrainersService(TrainerRepository trainerRepository, TrainerScheduleRepository scheduleRepository,
+                           TrainerScheduleExceptionRepository exceptionRepository,
+                           TrainerAvailabilityIndex availabilityIndex) {
         this.trainerRepository = trainerRepository;
         this.scheduleRepository = scheduleRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.availabilityIndex = availabilityIndex;
     }
 
+    @Cacheable(cacheNames = CacheConfig.TRAINER_LISTS, key = "'ALL'")
     public List<TrainerDTO> getAllTrainers() {
         return getAllTrainers(null);
     }
 
+    @Cacheable(cacheNames = CacheConfig.TRAINER_LISTS, key = "#speciality == null ? 'ALL' : #speciality.name()")
     public List<TrainerDTO> getAllTrainers(TrainerSpeciality speciality) {
         List<TrainerDTO> result = new ArrayList<>();
 
@@ -57,12 +93,14 @@ public class TrainersService {
         return result;
     }
 
+    @Cacheable(cacheNames = CacheConfig.TRAINERS, key = "#id")
     public TrainerDTO getTrainerById(String id) {
         Trainer trainer = trainerRepository.findById(id).orElseThrow(() -> new TrainerNotFoundException(id));
         return TrainerDTO.fromEntity(trainer);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_LISTS, allEntries = true)
     public TrainerDTO createTrainer(CreateTrainerRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("Request body is required");
@@ -95,6 +133,10 @@ public class TrainersService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TRAINERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TRAINER_LISTS, allEntries = true)
+    })
     public TrainerDTO updateTrainer(String id, UpdateTrainerRequest request) {
         Trainer trainer = trainerRepository.findById(id).orElseThrow(() -> new TrainerNotFoundException(id));
 
@@ -121,10 +163,15 @@ public class TrainersService {
         }
 
         Trainer saved = trainerRepository.save(trainer);
+        availabilityIndex.invalidate(id);
         return TrainerDTO.fromEntity(saved);
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TRAINERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TRAINER_LISTS, allEntries = true)
+    })
     public TrainerDTO certifyTrainer(String id) {
         Trainer trainer = trainerRepository.findById(id).orElseThrow(() -> new TrainerNotFoundException(id));
         trainer.setCertificationStatus(CertificationStatus.APPROVED);
@@ -133,6 +180,10 @@ public class TrainersService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TRAINERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TRAINER_LISTS, allEntries = true)
+    })
     public TrainerDTO updateAvailability(String id, UpdateAvailabilityRequest request) {
         Trainer trainer = trainerRepository.findById(id).orElseThrow(() -> new TrainerNotFoundException(id));
 
@@ -144,50 +195,64 @@ public class TrainersService {
         }
 
         Trainer saved = trainerRepository.save(trainer);
+        availabilityIndex.invalidate(id);
         return TrainerDTO.fromEntity(saved);
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TRAINERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TRAINER_LISTS, allEntries = true)
+    })
     public TrainerDTO suspendTrainer(String id) {
         Trainer trainer = trainerRepository.findById(id).orElseThrow(() -> new TrainerNotFoundException(id));
         trainer.setStatus(TrainerStatus.INACTIVE);
         Trainer saved = trainerRepository.save(trainer);
+        availabilityIndex.invalidate(id);
         return TrainerDTO.fromEntity(saved);
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TRAINERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TRAINER_LISTS, allEntries = true)
+    })
     public TrainerDTO activateTrainer(String id) {
         Trainer trainer = trainerRepository.findById(id).orElseThrow(() -> new TrainerNotFoundException(id));
         trainer.setStatus(TrainerStatus.ACTIVE);
         Trainer saved = trainerRepository.save(trainer);
+        availabilityIndex.invalidate(id);
         return TrainerDTO.fromEntity(saved);
     }
 
-    // RF-TRAIN-07 - verify availability in a period (ISO date-time)
+    // RF-TRAIN-07 - verify availability in a period (ISO date-time), schedule exceptions of that date included
     public boolean isTrainerAvailable(String trainerId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        requireSameDayInterval(startDateTime, endDateTime);
+
+        if (availabilityIndex.get(trainerId).status() != TrainerStatus.ACTIVE) {
+            return false;
+        }
+        return availabilityIndex.week(trainerId, startDateTime.toLocalDate())
+                .covers(startDateTime.getDayOfWeek(), startDateTime.toLocalTime(), endDateTime.toLocalTime());
+    }
+
+    private static void requireSameDayInterval(LocalDateTime startDateTime, LocalDateTime endDateTime) {
         if (startDateTime == null || endDateTime == null) {
             throw new IllegalArgumentException("startTime and endTime are required");
         }
         if (!startDateTime.isBefore(endDateTime)) {
             throw new IllegalArgumentException("startTime must be before endTime");
         }
-        if (startDateTime.toLocalDate().isAfter(endDateTime.toLocalDate())
-                || !startDateTime.toLocalDate().equals(endDateTime.toLocalDate())) {
+        if (!startDateTime.toLocalDate().equals(endDateTime.toLocalDate())) {
             throw new IllegalArgumentException("startTime and endTime must be on the same day");
         }
-
-        DayOfWeek dayOfWeek = startDateTime.getDayOfWeek();
-        LocalTime startTime = startDateTime.toLocalTime();
-        LocalTime endTime = endDateTime.toLocalTime();
-
-        return isTrainerAvailable(trainerId, dayOfWeek, startTime, endTime);
     }
 
-    // Internal helper (day + HH:mm) used by tests and validation logic
+    // Internal helper (day + HH:mm) used by tests and validation logic; weekly template only, no dated exceptions
     public boolean isTrainerAvailable(String trainerId, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
-        Trainer trainer = trainerRepository.findById(trainerId).orElseThrow(() -> new TrainerNotFoundException(trainerId));
+        TrainerAvailabilityIndex.TrainerAvailability availability = availabilityIndex.get(trainerId);
 
-        if (trainer.getStatus() != TrainerStatus.ACTIVE) {
+        if (availability.status() != TrainerStatus.ACTIVE) {
             return false;
         }
         if (dayOfWeek == null || startTime == null || endTime == null) {
@@ -197,35 +262,207 @@ public class TrainersService {
             throw new IllegalArgumentException("startTime must be before endTime");
         }
 
-        List<TrainerSchedule> schedules = scheduleRepository.findByTrainerIdAndDayOfWeekAndStatus(
-                trainerId,
-                dayOfWeek,
-                TrainerSchedule.ScheduleStatus.AVAILABLE
-        );
+        // Available if every minute of the requested interval lies inside AVAILABLE slots
+        return availability.weekly().covers(dayOfWeek, startTime, endTime);
+    }
+
+    // GET /api/trainers/available - ACTIVE trainers free for the whole interval, most experienced first
+    public List<TrainerDTO> findAvailableTrainers(TrainerSpeciality speciality, LocalDateTime start, LocalDateTime end) {
+        requireSameDayInterval(start, end);
+        LocalDate date = start.toLocalDate();
+        DayOfWeek day = start.getDayOfWeek();
+
+        // The query keeps trainers with a slot holding the start minute; the whole interval is checked on the dated weeks
+        LocalTime at = start.toLocalTime().truncatedTo(ChronoUnit.MINUTES);
+        List<Trainer> candidates = trainerRepository.findActiveWithSlotAt(speciality, date, day, at);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<String> ids = new ArrayList<>(candidates.size());
+        for (Trainer t : candidates) {
+            ids.add(t.getId());
+        }
+        Map<TrainerAvailabilityIndex.WeekKey, WeeklyAvailability> weeks = availabilityIndex.weeks(ids, date, date);
 
-        String reqStart = startTime.format(TIME_FORMATTER);
-        String reqEnd = endTime.format(TIME_FORMATTER);
+        List<TrainerDTO> result = new ArrayList<>();
+        for (Trainer t : candidates) {
+            WeeklyAvailability week = weeks.get(TrainerAvailabilityIndex.WeekKey.of(t.getId(), date));
+            if (week != null && week.covers(day, start.toLocalTime(), end.toLocalTime())) {
+                result.add(TrainerDTO.fromEntity(t));
+                if (result.size() == maxAvailableResults) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
 
-        // Available if the requested interval is fully contained in at least one AVAILABLE slot
-        for (TrainerSchedule s : schedules) {
-            String slotStart = s.getStartTime();
-            String slotEnd = s.getEndTime();
+    // POST /api/trainers/availability:query - free intervals of many trainers over a date range, in one call
+    public AvailabilityQueryResponse queryAvailability(AvailabilityQueryRequest request) {
+        if (request == null || request.getTrainerIds() == null || request.getTrainerIds().isEmpty()) {
+            throw new IllegalArgumentException("trainerIds is required");
+        }
+        if (request.getFrom() == null || request.getTo() == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (request.getTo().isBefore(request.getFrom())) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(request.getFrom(), request.getTo()) >= maxQueryDays) {
+            throw new IllegalArgumentException("Availability query is limited to " + maxQueryDays + " days");
+        }
+        Set<String> trainerIds = new LinkedHashSet<>(request.getTrainerIds());
+        trainerIds.remove(null);
+        if (trainerIds.size() > maxQueryTrainers) {
+            throw new IllegalArgumentException("Availability query is limited to " + maxQueryTrainers + " trainers");
+        }
 
-            boolean contained = reqStart.compareTo(slotStart) >= 0 && reqEnd.compareTo(slotEnd) <= 0;
-            if (contained) {
-                return true;
+        Map<String, TrainerAvailabilityIndex.TrainerAvailability> indexed = availabilityIndex.getAll(trainerIds);
+        List<String> active = new ArrayList<>(indexed.size());
+        indexed.forEach((id, availability) -> {
+            if (availability.status() == TrainerStatus.ACTIVE) {
+                active.add(id);
+            }
+        });
+        Map<TrainerAvailabilityIndex.WeekKey, WeeklyAvailability> weeks = active.isEmpty()
+                ? Map.of()
+                : availabilityIndex.weeks(active, request.getFrom(), request.getTo());
+
+        List<AvailabilityQueryResponse.TrainerAvailability> trainers = new ArrayList<>(indexed.size());
+        List<String> unknown = new ArrayList<>();
+        for (String trainerId : trainerIds) {
+            TrainerAvailabilityIndex.TrainerAvailability availability = indexed.get(trainerId);
+            if (availability == null) {
+                unknown.add(trainerId);
+                continue;
             }
+            List<AvailabilityQueryResponse.Interval> free = availability.status() == TrainerStatus.ACTIVE
+                    ? freeIntervals(trainerId, weeks, request.getFrom(), request.getTo())
+                    : List.of();
+            trainers.add(new AvailabilityQueryResponse.TrainerAvailability(trainerId, availability.status(), free));
         }
+        return new AvailabilityQueryResponse(request.getFrom(), request.getTo(), trainers, unknown);
+    }
 
-        return false;
+    // Expands each date from its dated week, so leave and extra hours show up on the day they apply
+    private static List<AvailabilityQueryResponse.Interval> freeIntervals(
+            String trainerId, Map<TrainerAvailabilityIndex.WeekKey, WeeklyAvailability> weeks,
+            LocalDate from, LocalDate to) {
+        List<AvailabilityQueryResponse.Interval> free = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            WeeklyAvailability week = weeks.get(TrainerAvailabilityIndex.WeekKey.of(trainerId, date));
+            if (week == null) {
+                continue;
+            }
+            LocalDateTime midnight = date.atStartOfDay();
+            for (WeeklyAvailability.MinuteRange run : week.intervals(date.getDayOfWeek())) {
+                free.add(new AvailabilityQueryResponse.Interval(
+                        midnight.plusMinutes(run.start()), midnight.plusMinutes(run.end())));
+            }
+        }
+        return free;
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TRAINERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TRAINER_LISTS, allEntries = true)
+    })
     public void deleteTrainer(String id) {
         if (!trainerRepository.existsById(id)) {
             throw new TrainerNotFoundException(id);
         }
+        exceptionRepository.deleteByTrainerId(id);
         scheduleRepository.deleteByTrainerId(id);
         trainerRepository.deleteById(id);
+        availabilityIndex.invalidate(id);
+    }
+
+    // POST /api/trainers/{id}/exceptions - one exception per date of [from, to]: leave, or extra hours
+    @Transactional
+    public List<ScheduleExceptionDTO> addScheduleExceptions(String trainerId, ScheduleExceptionRequest request) {
+        if (request == null || request.getFrom() == null) {
+            throw new IllegalArgumentException("from is required");
+        }
+        if (request.getType() == null) {
+            throw new IllegalArgumentException("type is required");
+        }
+        LocalDate to = request.getTo() != null ? request.getTo() : request.getFrom();
+        requireDateRange(request.getFrom(), to);
+        if ((request.getStartTime() == null) != (request.getEndTime() == null)) {
+            throw new IllegalArgumentException("startTime and endTime must be given together");
+        }
+        if (request.getStartTime() == null && request.getType() == TrainerScheduleException.ExceptionType.AVAILABLE) {
+            throw new IllegalArgumentException("startTime and endTime are required for AVAILABLE exceptions");
+        }
+        if (request.getStartTime() != null && !request.getStartTime().isBefore(request.getEndTime())) {
+            throw new IllegalArgumentException("startTime must be before endTime");
+        }
+        Trainer trainer = trainerRepository.findById(trainerId).orElseThrow(() -> new TrainerNotFoundException(trainerId));
+
+        // A retried range request conflicts (409) instead of doubling the rows. Whole-day rows have no start
+        // time, so this is checked here as well as by the NULLS NOT DISTINCT index on PostgreSQL
+        for (TrainerScheduleException existing : exceptionRepository
+                .findByTrainerIdAndDateBetweenOrderByDateAscStartTimeAsc(trainerId, request.getFrom(), to)) {
+            if (existing.getType() == request.getType()
+                    && Objects.equals(existing.getStartTime(), request.getStartTime())) {
+                throw new ScheduleConflictException("Schedule exception already exists for trainer " + trainerId
+                        + " on " + existing.getDate());
+            }
+        }
+
+        List<TrainerScheduleException> exceptions = new ArrayList<>();
+        for (LocalDate date = request.getFrom(); !date.isAfter(to); date = date.plusDays(1)) {
+            TrainerScheduleException exception = new TrainerScheduleException();
+            exception.setTrainer(trainer);
+            exception.setDate(date);
+            exception.setType(request.getType());
+            exception.setStartTime(request.getStartTime());
+            exception.setEndTime(request.getEndTime());
+            exception.setReason(request.getReason());
+            exceptions.add(exception);
+        }
+
+        List<ScheduleExceptionDTO> result = new ArrayList<>(exceptions.size());
+        for (TrainerScheduleException saved : exceptionRepository.saveAll(exceptions)) {
+            result.add(ScheduleExceptionDTO.fromEntity(saved, trainerId));
+        }
+        // TrainerScheduleChangeListener invalidates the trainer's availability
+        return result;
+    }
+
+    // GET /api/trainers/{id}/exceptions?from=...&to=...
+    public List<ScheduleExceptionDTO> getScheduleExceptions(String trainerId, LocalDate from, LocalDate to) {
+        requireDateRange(from, to);
+        if (!trainerRepository.existsById(trainerId)) {
+            throw new TrainerNotFoundException(trainerId);
+        }
+
+        List<ScheduleExceptionDTO> result = new ArrayList<>();
+        for (TrainerScheduleException e : exceptionRepository
+                .findByTrainerIdAndDateBetweenOrderByDateAscStartTimeAsc(trainerId, from, to)) {
+            result.add(ScheduleExceptionDTO.fromEntity(e, trainerId));
+        }
+        return result;
+    }
+
+    // DELETE /api/trainers/{id}/exceptions/{exceptionId}
+    @Transactional
+    public void deleteScheduleException(String trainerId, String exceptionId) {
+        TrainerScheduleException exception = exceptionRepository.findByIdAndTrainerId(exceptionId, trainerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Schedule exception not found: " + exceptionId));
+        exceptionRepository.delete(exception);
+    }
+
+    private void requireDateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxExceptionDays) {
+            throw new IllegalArgumentException("Schedule exceptions are limited to " + maxExceptionDays + " days");
+        }
     }
 }
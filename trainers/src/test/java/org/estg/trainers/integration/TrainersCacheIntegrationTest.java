@@ -0,0 +1,105 @@
+package org.estg.trainers.integration;
+
+import org.estg.trainers.config.CacheConfig;
+import org.estg.trainers.data.TrainerRepository;
+import org.estg.trainers.dto.CreateTrainerRequest;
+import org.estg.trainers.dto.TrainerDTO;
+import org.estg.trainers.model.TrainerSpeciality;
+import org.estg.trainers.model.TrainerStatus;
+import org.estg.trainers.service.TrainersService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cache de leitura de treinadores (trainers.cache.enabled=true)
+ * Leituras repetidas servidas pela cache, mutações invalidam após commit
+ */
+@SpringBootTest(properties = {
+        "trainers.cache.enabled=true",
+        "spring.cache.type=caffeine",
+        "spring.cache.cache-names=trainers,trainerLists",
+        "spring.cache.caffeine.spec=maximumSize=100,recordStats",
+        // cache meters are bound at startup, which lazy initialization would skip
+        "spring.main.lazy-initialization=false"
+})
+@ActiveProfiles("test")
+@DisplayName("Cache de Treinadores - Testes de Integração")
+class TrainersCacheIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainersCacheIntegrationTest.class);
+
+    @Autowired
+    private TrainersService trainersService;
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        trainerRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        log.info("✅ Base de dados e caches limpas");
+    }
+
+    @Test
+    @DisplayName("Leitura repetida vem da cache e suspensão invalida a entrada")
+    void testReadsAreCachedAndMutatorsEvict() {
+        log.info("\n┌─────────────────────────────────────────────────────────────┐");
+        log.info("│ Cache: getTrainerById / getAllTrainers + invalidação         │");
+        log.info("└─────────────────────────────────────────────────────────────┘");
+
+        // ARRANGE
+        CreateTrainerRequest request = new CreateTrainerRequest();
+        request.setFullName("Rita Costa");
+        request.setEmail("rita.cache@gym.pt");
+        request.setSpeciality(TrainerSpeciality.YOGA);
+        String id = trainersService.createTrainer(request).getId();
+
+        // ACT - 1ª leitura enche a cache; alteração direta na BD não é vista pela 2ª
+        trainersService.getTrainerById(id);
+        assertEquals(1, trainersService.getAllTrainers().size());
+        trainerRepository.findById(id).ifPresent(t -> {
+            t.setFullName("Alterado fora do serviço");
+            trainerRepository.save(t);
+        });
+        TrainerDTO cached = trainersService.getTrainerById(id);
+
+        // ASSERT
+        assertEquals("Rita Costa", cached.getFullName());
+        assertNotNull(cacheManager.getCache(CacheConfig.TRAINERS).get(id));
+        FunctionCounter hits = meterRegistry.find("cache.gets")
+                .tags("cache", CacheConfig.TRAINERS, "result", "hit").functionCounter();
+        assertNotNull(hits, "cache metrics must be bound for actuator");
+        assertTrue(hits.count() >= 1);
+        log.info("  ✓ 2ª leitura servida pela cache (cache.gets hit={})", hits.count());
+
+        // ACT - mutador do serviço invalida trainers[id] e as listas
+        trainersService.suspendTrainer(id);
+        TrainerDTO fresh = trainersService.getTrainerById(id);
+
+        // ASSERT
+        assertEquals(TrainerStatus.INACTIVE, fresh.getStatus());
+        assertEquals("Alterado fora do serviço", fresh.getFullName());
+        assertNull(cacheManager.getCache(CacheConfig.TRAINER_LISTS).get("ALL"));
+        log.info("  ✓ Após suspendTrainer a leitura volta à BD: status={}", fresh.getStatus());
+
+        log.info("\n✅ Cache de treinadores validada");
+    }
+}
@@ -1,14 +1,24 @@
 package org.estg.trainers.service;
 
+import org.estg.trainers.data.AvailableSlot;
+import org.estg.trainers.data.ScheduleExceptionSlot;
 import org.estg.trainers.data.TrainerRepository;
+import org.estg.trainers.data.TrainerScheduleExceptionRepository;
 import org.estg.trainers.data.TrainerScheduleRepository;
+import org.estg.trainers.domain.event.TrainerEvent;
+import org.estg.trainers.dto.AvailabilityQueryRequest;
+import org.estg.trainers.dto.AvailabilityQueryResponse;
 import org.estg.trainers.dto.CreateTrainerRequest;
+import org.estg.trainers.dto.ScheduleExceptionDTO;
+import org.estg.trainers.dto.ScheduleExceptionRequest;
 import org.estg.trainers.dto.TrainerDTO;
 import org.estg.trainers.dto.UpdateTrainerRequest;
 import org.estg.trainers.exceptions.ResourceNotFoundException;
+import org.estg.trainers.exceptions.ScheduleConflictException;
 import org.estg.trainers.model.CertificationStatus;
 import org.estg.trainers.model.Trainer;
 import org.estg.trainers.model.TrainerSchedule;
+import org.estg.trainers.model.TrainerScheduleException;
 import org.estg.trainers.model.TrainerSpeciality;
 import org.estg.trainers.model.TrainerStatus;
 import org.junit.jupiter.api.AfterEach;
@@ -16,16 +26,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,13 +60,19 @@ class TrainersServiceTest {
     @Mock
     private TrainerScheduleRepository scheduleRepository;
 
-    @InjectMocks
+    @Mock
+    private TrainerScheduleExceptionRepository exceptionRepository;
+
     private TrainersService trainersService;
 
     private Trainer existingTrainer;
 
     @BeforeEach
     void setUp() {
+        trainersService = new TrainersService(trainerRepository, scheduleRepository, exceptionRepository,
+                new TrainerAvailabilityIndex(trainerRepository, scheduleRepository, exceptionRepository,
+                        event -> { }, Duration.ofMinutes(10), 100, 1000));
+
         existingTrainer = new Trainer();
         existingTrainer.setId(UUID.randomUUID().toString());
         existingTrainer.setFullName("John Doe");
@@ -62,6 +85,12 @@ class TrainersServiceTest {
         existingTrainer.setNotes("Experienced strength coach");
     }
 
+    private static List<AvailableSlot> available(TrainerSchedule... schedules) {
+        return Arrays.stream(schedules)
+                .map(s -> new AvailableSlot(s.getTrainer().getId(), s.getDayOfWeek(), s.getStartTime(), s.getEndTime()))
+                .toList();
+    }
+
     @AfterEach
     void banner() {
         log.info("? ? TESTE PASSOU COM SUCESSO ? ? ?");
@@ -194,26 +223,27 @@ class TrainersServiceTest {
     @Test
     void isTrainerAvailable_returnsFalse_whenTrainerInactive() {
         existingTrainer.setStatus(TrainerStatus.INACTIVE);
-        when(trainerRepository.findById(existingTrainer.getId())).thenReturn(Optional.of(existingTrainer));
+        when(trainerRepository.findAllById(Set.of(existingTrainer.getId()))).thenReturn(List.of(existingTrainer));
 
         boolean available = trainersService.isTrainerAvailable(existingTrainer.getId(), DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0));
         assertFalse(available);
-        verify(scheduleRepository, never()).findByTrainerIdAndDayOfWeekAndStatus(anyString(), any(), any());
+        verify(scheduleRepository, times(1)).findAvailableSlots(Set.of(existingTrainer.getId()));
+        verifyNoInteractions(exceptionRepository);
     }
 
     @Test
     void isTrainerAvailable_returnsFalse_whenOverlapExists() {
-        when(trainerRepository.findById(existingTrainer.getId())).thenReturn(Optional.of(existingTrainer));
+        when(trainerRepository.findAllById(Set.of(existingTrainer.getId()))).thenReturn(List.of(existingTrainer));
 
         TrainerSchedule s = new TrainerSchedule();
         s.setTrainer(existingTrainer);
         s.setDayOfWeek(DayOfWeek.MONDAY);
-        s.setStartTime("09:00");
-        s.setEndTime("10:30");
+        s.setStartTime(LocalTime.of(9, 0));
+        s.setEndTime(LocalTime.of(10, 30));
         s.setStatus(TrainerSchedule.ScheduleStatus.AVAILABLE);
 
-        when(scheduleRepository.findByTrainerIdAndDayOfWeekAndStatus(existingTrainer.getId(), DayOfWeek.MONDAY, TrainerSchedule.ScheduleStatus.AVAILABLE))
-                .thenReturn(List.of(s));
+        when(scheduleRepository.findAvailableSlots(Set.of(existingTrainer.getId())))
+                .thenReturn(available(s));
 
         boolean available = trainersService.isTrainerAvailable(existingTrainer.getId(), DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0));
         assertFalse(available);
@@ -221,22 +251,248 @@ class TrainersServiceTest {
 
     @Test
     void isTrainerAvailable_returnsTrue_whenNoOverlap() {
-        when(trainerRepository.findById(existingTrainer.getId())).thenReturn(Optional.of(existingTrainer));
+        when(trainerRepository.findAllById(Set.of(existingTrainer.getId()))).thenReturn(List.of(existingTrainer));
 
         TrainerSchedule s = new TrainerSchedule();
         s.setTrainer(existingTrainer);
         s.setDayOfWeek(DayOfWeek.MONDAY);
-        s.setStartTime("08:00");
-        s.setEndTime("09:00");
+        s.setStartTime(LocalTime.of(8, 0));
+        s.setEndTime(LocalTime.of(9, 0));
         s.setStatus(TrainerSchedule.ScheduleStatus.AVAILABLE);
 
-        when(scheduleRepository.findByTrainerIdAndDayOfWeekAndStatus(existingTrainer.getId(), DayOfWeek.MONDAY, TrainerSchedule.ScheduleStatus.AVAILABLE))
-                .thenReturn(List.of(s));
+        when(scheduleRepository.findAvailableSlots(Set.of(existingTrainer.getId())))
+                .thenReturn(available(s));
 
         boolean available = trainersService.isTrainerAvailable(existingTrainer.getId(), DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0));
         assertTrue(available);
     }
 
+    @Test
+    void isTrainerAvailable_mergesAdjacentSlots_andServesRepeatsFromIndex() {
+        when(trainerRepository.findAllById(Set.of(existingTrainer.getId()))).thenReturn(List.of(existingTrainer));
+
+        TrainerSchedule morning = new TrainerSchedule();
+        morning.setTrainer(existingTrainer);
+        morning.setDayOfWeek(DayOfWeek.TUESDAY);
+        morning.setStartTime(LocalTime.of(9, 0));
+        morning.setEndTime(LocalTime.of(12, 0));
+        TrainerSchedule midday = new TrainerSchedule();
+        midday.setTrainer(existingTrainer);
+        midday.setDayOfWeek(DayOfWeek.TUESDAY);
+        midday.setStartTime(LocalTime.of(12, 0));
+        midday.setEndTime(LocalTime.of(14, 30));
+
+        when(scheduleRepository.findAvailableSlots(Set.of(existingTrainer.getId())))
+                .thenReturn(available(morning, midday));
+
+        String id = existingTrainer.getId();
+        assertTrue(trainersService.isTrainerAvailable(id, DayOfWeek.TUESDAY, LocalTime.of(11, 0), LocalTime.of(13, 0)));
+        assertTrue(trainersService.isTrainerAvailable(id, DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(14, 30)));
+        assertFalse(trainersService.isTrainerAvailable(id, DayOfWeek.TUESDAY, LocalTime.of(14, 0), LocalTime.of(14, 31)));
+        assertFalse(trainersService.isTrainerAvailable(id, DayOfWeek.WEDNESDAY, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        verify(trainerRepository, times(1)).findAllById(Set.of(id));
+        verify(scheduleRepository, times(1)).findAvailableSlots(Set.of(id));
+    }
+
+    @Test
+    void suspendTrainer_dropsIndexedAvailability() {
+        when(trainerRepository.findById(existingTrainer.getId())).thenReturn(Optional.of(existingTrainer));
+        when(trainerRepository.findAllById(Set.of(existingTrainer.getId()))).thenReturn(List.of(existingTrainer));
+        when(trainerRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        TrainerSchedule s = new TrainerSchedule();
+        s.setTrainer(existingTrainer);
+        s.setDayOfWeek(DayOfWeek.MONDAY);
+        s.setStartTime(LocalTime.of(8, 0));
+        s.setEndTime(LocalTime.of(12, 0));
+        when(scheduleRepository.findAvailableSlots(Set.of(existingTrainer.getId())))
+                .thenReturn(available(s));
+
+        String id = existingTrainer.getId();
+        assertTrue(trainersService.isTrainerAvailable(id, DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        trainersService.suspendTrainer(id);
+
+        assertFalse(trainersService.isTrainerAvailable(id, DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+    }
+
+    @Test
+    void queryAvailability_expandsWeeklySlotsOverDates_inOneBulkLoad() {
+        Trainer inactive = new Trainer();
+        inactive.setId("inactive");
+        inactive.setStatus(TrainerStatus.ON_LEAVE);
+        when(trainerRepository.findAllById(Set.of(existingTrainer.getId(), "inactive", "missing")))
+                .thenReturn(List.of(existingTrainer, inactive));
+        when(scheduleRepository.findAvailableSlots(Set.of(existingTrainer.getId(), "inactive", "missing")))
+                .thenReturn(List.of(
+                        new AvailableSlot(existingTrainer.getId(), DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                        new AvailableSlot(existingTrainer.getId(), DayOfWeek.MONDAY, LocalTime.of(14, 0), LocalTime.of(18, 0)),
+                        new AvailableSlot(existingTrainer.getId(), DayOfWeek.TUESDAY, LocalTime.of(7, 0), LocalTime.of(8, 0)),
+                        new AvailableSlot("inactive", DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(12, 0))));
+
+        // Monday 2030-01-07 to Tuesday 2030-01-08
+        AvailabilityQueryResponse response = trainersService.queryAvailability(new AvailabilityQueryRequest(
+                List.of(existingTrainer.getId(), "inactive", "missing"),
+                LocalDate.of(2030, 1, 7), LocalDate.of(2030, 1, 8)));
+
+        assertEquals(List.of("missing"), response.getUnknownTrainerIds());
+        assertEquals(2, response.getTrainers().size());
+        AvailabilityQueryResponse.TrainerAvailability active = response.getTrainers().get(0);
+        assertEquals(existingTrainer.getId(), active.getTrainerId());
+        assertEquals(List.of(
+                interval("2030-01-07T09:00", "2030-01-07T12:00"),
+                interval("2030-01-07T14:00", "2030-01-07T18:00"),
+                interval("2030-01-08T07:00", "2030-01-08T08:00")), active.getFree());
+        assertEquals(TrainerStatus.ON_LEAVE, response.getTrainers().get(1).getStatus());
+        assertTrue(response.getTrainers().get(1).getFree().isEmpty());
+        verify(trainerRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void queryAvailability_rejectsRangeOverLimit() {
+        AvailabilityQueryRequest request = new AvailabilityQueryRequest(List.of(existingTrainer.getId()),
+                LocalDate.of(2030, 1, 1), LocalDate.of(2030, 6, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> trainersService.queryAvailability(request));
+        verifyNoInteractions(scheduleRepository);
+    }
+
+    @Test
+    void findAvailableTrainers_keepsRankOrder_andDropsTrainersWithoutCoveringSlot() {
+        Trainer senior = new Trainer();
+        senior.setId("senior");
+        senior.setStatus(TrainerStatus.ACTIVE);
+        senior.setYearsExperience(12);
+        Trainer gap = new Trainer();
+        gap.setId("gap");
+        gap.setStatus(TrainerStatus.ACTIVE);
+        gap.setYearsExperience(8);
+        when(trainerRepository.findActiveWithSlotAt(TrainerSpeciality.STRENGTH, LocalDate.of(2030, 1, 8),
+                DayOfWeek.TUESDAY, LocalTime.of(18, 0)))
+                .thenReturn(List.of(senior, gap, existingTrainer));
+        when(trainerRepository.findAllById(Set.of("senior", "gap", existingTrainer.getId())))
+                .thenReturn(List.of(senior, gap, existingTrainer));
+        when(scheduleRepository.findAvailableSlots(Set.of("senior", "gap", existingTrainer.getId())))
+                .thenReturn(List.of(
+                        new AvailableSlot("senior", DayOfWeek.TUESDAY, LocalTime.of(17, 0), LocalTime.of(21, 0)),
+                        new AvailableSlot("gap", DayOfWeek.TUESDAY, LocalTime.of(17, 0), LocalTime.of(18, 30)),
+                        new AvailableSlot(existingTrainer.getId(), DayOfWeek.TUESDAY, LocalTime.of(18, 0), LocalTime.of(19, 0))));
+
+        // Tuesday 2030-01-08 18:00-19:00
+        List<TrainerDTO> result = trainersService.findAvailableTrainers(TrainerSpeciality.STRENGTH,
+                LocalDateTime.of(2030, 1, 8, 18, 0), LocalDateTime.of(2030, 1, 8, 19, 0));
+
+        assertEquals(List.of("senior", existingTrainer.getId()), result.stream().map(TrainerDTO::getId).toList());
+    }
+
+    @Test
+    void findAvailableTrainers_rejectsIntervalAcrossDays() {
+        assertThrows(IllegalArgumentException.class, () -> trainersService.findAvailableTrainers(null,
+                LocalDateTime.of(2030, 1, 8, 23, 0), LocalDateTime.of(2030, 1, 9, 1, 0)));
+        verifyNoInteractions(trainerRepository);
+    }
+
+    @Test
+    void isTrainerAvailable_onDate_appliesLeaveAndExtraHoursOfThatWeekOnly() {
+        String id = existingTrainer.getId();
+        when(trainerRepository.findAllById(Set.of(id))).thenReturn(List.of(existingTrainer));
+        when(scheduleRepository.findAvailableSlots(Set.of(id))).thenReturn(List.of(
+                new AvailableSlot(id, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(17, 0)),
+                new AvailableSlot(id, DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(12, 0))));
+        // Week of Monday 2030-01-07: Monday on leave, Tuesday with extra hours in the evening
+        when(exceptionRepository.findSlots(Set.of(id), LocalDate.of(2030, 1, 7), LocalDate.of(2030, 1, 13)))
+                .thenReturn(List.of(
+                        new ScheduleExceptionSlot(id, LocalDate.of(2030, 1, 7),
+                                TrainerScheduleException.ExceptionType.UNAVAILABLE, null, null),
+                        new ScheduleExceptionSlot(id, LocalDate.of(2030, 1, 8),
+                                TrainerScheduleException.ExceptionType.AVAILABLE, LocalTime.of(18, 0), LocalTime.of(20, 0)),
+                        new ScheduleExceptionSlot(id, LocalDate.of(2030, 1, 8),
+                                TrainerScheduleException.ExceptionType.UNAVAILABLE, LocalTime.of(19, 0), LocalTime.of(19, 30))));
+
+        assertFalse(trainersService.isTrainerAvailable(id,
+                LocalDateTime.of(2030, 1, 7, 10, 0), LocalDateTime.of(2030, 1, 7, 11, 0)));
+        assertTrue(trainersService.isTrainerAvailable(id,
+                LocalDateTime.of(2030, 1, 8, 18, 0), LocalDateTime.of(2030, 1, 8, 19, 0)));
+        assertFalse(trainersService.isTrainerAvailable(id,
+                LocalDateTime.of(2030, 1, 8, 18, 30), LocalDateTime.of(2030, 1, 8, 19, 15)));
+        // Next Monday is back on the weekly template
+        assertTrue(trainersService.isTrainerAvailable(id,
+                LocalDateTime.of(2030, 1, 14, 10, 0), LocalDateTime.of(2030, 1, 14, 11, 0)));
+        verify(scheduleRepository, times(1)).findAvailableSlots(Set.of(id));
+        verify(exceptionRepository, times(1)).findSlots(anyCollection(), eq(LocalDate.of(2030, 1, 7)), any());
+    }
+
+    @Test
+    void addScheduleExceptions_createsOneLeaveDayPerDate() {
+        when(trainerRepository.findById(existingTrainer.getId())).thenReturn(Optional.of(existingTrainer));
+        when(exceptionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ScheduleExceptionRequest request = new ScheduleExceptionRequest(LocalDate.of(2030, 8, 1),
+                LocalDate.of(2030, 8, 3), TrainerScheduleException.ExceptionType.UNAVAILABLE, null, null, "Holidays");
+
+        List<ScheduleExceptionDTO> created = trainersService.addScheduleExceptions(existingTrainer.getId(), request);
+
+        assertEquals(List.of(LocalDate.of(2030, 8, 1), LocalDate.of(2030, 8, 2), LocalDate.of(2030, 8, 3)),
+                created.stream().map(ScheduleExceptionDTO::getDate).toList());
+        assertTrue(created.stream().allMatch(e -> "Holidays".equals(e.getReason()) && e.getStartTime() == null));
+    }
+
+    @Test
+    void addScheduleExceptions_rejectsRetriedWholeDayLeave() {
+        when(trainerRepository.findById(existingTrainer.getId())).thenReturn(Optional.of(existingTrainer));
+        TrainerScheduleException leave = new TrainerScheduleException();
+        leave.setTrainer(existingTrainer);
+        leave.setDate(LocalDate.of(2030, 8, 2));
+        leave.setType(TrainerScheduleException.ExceptionType.UNAVAILABLE);
+        when(exceptionRepository.findByTrainerIdAndDateBetweenOrderByDateAscStartTimeAsc(existingTrainer.getId(),
+                LocalDate.of(2030, 8, 1), LocalDate.of(2030, 8, 3))).thenReturn(List.of(leave));
+        ScheduleExceptionRequest request = new ScheduleExceptionRequest(LocalDate.of(2030, 8, 1),
+                LocalDate.of(2030, 8, 3), TrainerScheduleException.ExceptionType.UNAVAILABLE, null, null, "Holidays");
+
+        assertThrows(ScheduleConflictException.class,
+                () -> trainersService.addScheduleExceptions(existingTrainer.getId(), request));
+        verify(exceptionRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void addScheduleExceptions_rejectsAvailableWithoutTimes() {
+        ScheduleExceptionRequest request = new ScheduleExceptionRequest(LocalDate.of(2030, 8, 1), null,
+                TrainerScheduleException.ExceptionType.AVAILABLE, null, null, null);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> trainersService.addScheduleExceptions(existingTrainer.getId(), request));
+        verifyNoInteractions(exceptionRepository);
+    }
+
+    @Test
+    void availabilityIndex_invalidatesEachTrainerOncePerTransaction() {
+        List<TrainerEvent> published = new ArrayList<>();
+        TrainerAvailabilityIndex index = new TrainerAvailabilityIndex(trainerRepository, scheduleRepository,
+                exceptionRepository, published::add, Duration.ofMinutes(10), 100, 1000);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // One listener call per saved row, as for a year of leave days
+            for (int row = 0; row < 366; row++) {
+                index.invalidate(existingTrainer.getId());
+            }
+            index.invalidate("other-trainer");
+
+            assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+            assertTrue(published.isEmpty());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(existingTrainer.getId(), "other-trainer"),
+                published.stream().map(TrainerEvent::getTrainerId).toList());
+        assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+    }
+
+    private static AvailabilityQueryResponse.Interval interval(String start, String end) {
+        return new AvailabilityQueryResponse.Interval(LocalDateTime.parse(start), LocalDateTime.parse(end));
+    }
+
     @Test
     void deleteTrainer_throwsNotFound_whenMissing() {
         when(trainerRepository.existsById("missing")).thenReturn(false);
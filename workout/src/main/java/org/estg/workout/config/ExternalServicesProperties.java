@@ -1,5 +1,7 @@
 package org.estg.workout.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -39,6 +41,9 @@ public class ExternalServicesProperties {
         // enables/disables calling other services
         private boolean enabled = true;
 
+        // trainer statuses older than this are re-read via REST (trainers-service publishes no status events)
+        private Duration trainerStatusMaxAge = Duration.ofMinutes(5);
+
         public boolean isEnabled() { // getter
             return enabled;
         }
@@ -46,6 +51,14 @@ public class ExternalServicesProperties {
         public void setEnabled(boolean enabled) { // setter
             this.enabled = enabled;
         }
+
+        public Duration getTrainerStatusMaxAge() { // getter
+            return trainerStatusMaxAge;
+        }
+
+        public void setTrainerStatusMaxAge(Duration trainerStatusMaxAge) { // setter
+            this.trainerStatusMaxAge = trainerStatusMaxAge;
+        }
     }
 
     // Nested object for "gymhub.services"
@@ -6,6 +6,7 @@ import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -23,6 +24,26 @@ public class RabbitMQConfig {
     // Default queue (Notifications consumes this one)
     public static final String WORKOUT_QUEUE = "notifications.workout.queue";
 
+    // Producer exchanges feeding the member/trainer status projection
+    public static final String MEMBERS_EXCHANGE = "members-exchange";
+    public static final String TRAINERS_EXCHANGE = "trainers-exchange";
+
+    // Member routing keys (published by Members service)
+    public static final String ROUTING_MEMBER_REGISTERED = "member.member_registered";
+    public static final String ROUTING_MEMBER_ACTIVATED = "member.member_activated";
+    public static final String ROUTING_MEMBER_SUSPENDED = "member.member_suspended";
+
+    // Trainer routing keys (published by Trainers service)
+    public static final String ROUTING_TRAINER_CREATED = "trainer.trainer_created";
+    public static final String ROUTING_TRAINER_UPDATED = "trainer.trainer_updated";
+    public static final String ROUTING_TRAINER_DELETED = "trainer.trainer_deleted";
+    // Published after every committed schedule, leave or status change; carries no status
+    public static final String ROUTING_TRAINER_SCHEDULE_CHANGED = "trainer.schedule_changed";
+
+    // Workout-owned queues for the status projection
+    public static final String MEMBER_STATUS_QUEUE = "workout.member.status.queue";
+    public static final String TRAINER_STATUS_QUEUE = "workout.trainer.status.queue";
+
     @Bean
     public DirectExchange workoutExchange() {
         return new DirectExchange(WORKOUT_EXCHANGE, true, false);
@@ -34,20 +55,85 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public Binding bindWorkoutCreated(Queue workoutQueue, DirectExchange workoutExchange) {
+    public Binding bindWorkoutCreated(@Qualifier("workoutQueue") Queue workoutQueue,
+                                      @Qualifier("workoutExchange") DirectExchange workoutExchange) {
         return BindingBuilder.bind(workoutQueue).to(workoutExchange).with(ROUTING_CREATED);
     }
 
     @Bean
-    public Binding bindWorkoutUpdated(Queue workoutQueue, DirectExchange workoutExchange) {
+    public Binding bindWorkoutUpdated(@Qualifier("workoutQueue") Queue workoutQueue,
+                                      @Qualifier("workoutExchange") DirectExchange workoutExchange) {
         return BindingBuilder.bind(workoutQueue).to(workoutExchange).with(ROUTING_UPDATED);
     }
 
     @Bean
-    public Binding bindWorkoutExerciseCompleted(Queue workoutQueue, DirectExchange workoutExchange) {
+    public Binding bindWorkoutExerciseCompleted(@Qualifier("workoutQueue") Queue workoutQueue,
+                                                @Qualifier("workoutExchange") DirectExchange workoutExchange) {
         return BindingBuilder.bind(workoutQueue).to(workoutExchange).with(ROUTING_EXERCISE_COMPLETED);
     }
 
+    @Bean
+    public DirectExchange membersExchange() {
+        return new DirectExchange(MEMBERS_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public DirectExchange trainersExchange() {
+        return new DirectExchange(TRAINERS_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue memberStatusQueue() {
+        return new Queue(MEMBER_STATUS_QUEUE, true);
+    }
+
+    @Bean
+    public Queue trainerStatusQueue() {
+        return new Queue(TRAINER_STATUS_QUEUE, true);
+    }
+
+    @Bean
+    public Binding bindMemberRegistered(@Qualifier("memberStatusQueue") Queue q,
+                                        @Qualifier("membersExchange") DirectExchange ex) {
+        return BindingBuilder.bind(q).to(ex).with(ROUTING_MEMBER_REGISTERED);
+    }
+
+    @Bean
+    public Binding bindMemberActivated(@Qualifier("memberStatusQueue") Queue q,
+                                       @Qualifier("membersExchange") DirectExchange ex) {
+        return BindingBuilder.bind(q).to(ex).with(ROUTING_MEMBER_ACTIVATED);
+    }
+
+    @Bean
+    public Binding bindMemberSuspended(@Qualifier("memberStatusQueue") Queue q,
+                                       @Qualifier("membersExchange") DirectExchange ex) {
+        return BindingBuilder.bind(q).to(ex).with(ROUTING_MEMBER_SUSPENDED);
+    }
+
+    @Bean
+    public Binding bindTrainerCreated(@Qualifier("trainerStatusQueue") Queue q,
+                                      @Qualifier("trainersExchange") DirectExchange ex) {
+        return BindingBuilder.bind(q).to(ex).with(ROUTING_TRAINER_CREATED);
+    }
+
+    @Bean
+    public Binding bindTrainerUpdated(@Qualifier("trainerStatusQueue") Queue q,
+                                      @Qualifier("trainersExchange") DirectExchange ex) {
+        return BindingBuilder.bind(q).to(ex).with(ROUTING_TRAINER_UPDATED);
+    }
+
+    @Bean
+    public Binding bindTrainerDeleted(@Qualifier("trainerStatusQueue") Queue q,
+                                      @Qualifier("trainersExchange") DirectExchange ex) {
+        return BindingBuilder.bind(q).to(ex).with(ROUTING_TRAINER_DELETED);
+    }
+
+    @Bean
+    public Binding bindTrainerScheduleChanged(@Qualifier("trainerStatusQueue") Queue q,
+                                              @Qualifier("trainersExchange") DirectExchange ex) {
+        return BindingBuilder.bind(q).to(ex).with(ROUTING_TRAINER_SCHEDULE_CHANGED);
+    }
+
     // Ensure messages are serialized as JSON
     @Bean
     public MessageConverter messageConverter() {
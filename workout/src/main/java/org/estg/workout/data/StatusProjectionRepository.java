@@ -0,0 +1,44 @@
+package org.estg.workout.data;
+
+import org.estg.workout.model.StatusProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+// Repository for the local member/trainer status projection
+public interface StatusProjectionRepository extends JpaRepository<StatusProjection, UUID> {
+
+    // Lookup by owning service + external id
+    Optional<StatusProjection> findByKindAndExternalId(StatusProjection.Kind kind, String externalId);
+
+    // Drop an entry so the next validation goes through the REST fallback
+    void deleteByKindAndExternalId(StatusProjection.Kind kind, String externalId);
+
+    // Insert unless (kind, external_id) already exists; a concurrent insert of the same id makes this a no-op
+    @Modifying
+    @Query(value = """
+            insert into status_projections (id, kind, external_id, status, updated_at)
+            values (:id, :kind, :externalId, :status, :updatedAt)
+            on conflict do nothing
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("kind") String kind,
+                       @Param("externalId") String externalId,
+                       @Param("status") String status,
+                       @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("""
+            update StatusProjection p set p.status = :status, p.updatedAt = :updatedAt
+            where p.kind = :kind and p.externalId = :externalId
+            """)
+    int updateStatus(@Param("kind") StatusProjection.Kind kind,
+                     @Param("externalId") String externalId,
+                     @Param("status") String status,
+                     @Param("updatedAt") Instant updatedAt);
+}
@@ -13,6 +13,9 @@ public final class ExternalApiPaths {
     // Members service: get member by id
     public static final String MEMBERS_GET_BY_ID = "/api/members/{id}";
 
+    // Members service: status-only projection of a member (id + status)
+    public static final String MEMBERS_STATUS_BY_ID = "/api/members/{id}/status";
+
     // Trainers service: get trainer by id
     public static final String TRAINERS_GET_BY_ID = "/api/trainers/{id}";
 }
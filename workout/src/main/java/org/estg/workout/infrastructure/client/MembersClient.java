@@ -35,7 +35,7 @@ public class MembersClient {
                 .getBaseUrl();
 
         // Full endpoint URL
-        String url = baseUrl + ExternalApiPaths.MEMBERS_GET_BY_ID;
+        String url = baseUrl + ExternalApiPaths.MEMBERS_STATUS_BY_ID;
 
         try {
             // Call Members API
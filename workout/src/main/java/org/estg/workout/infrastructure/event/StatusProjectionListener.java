@@ -0,0 +1,92 @@
+package org.estg.workout.infrastructure.event;
+
+import org.estg.workout.config.RabbitMQConfig;
+import org.estg.workout.model.StatusProjection;
+import org.estg.workout.model.StatusProjection.Kind;
+import org.estg.workout.service.StatusProjectionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the member/trainer status projection current from Members/Trainers events.
+ * Reads the raw JSON so producer "__TypeId__" headers do not need to resolve here.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.consumer", havingValue = "rabbit")
+public class StatusProjectionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusProjectionListener.class);
+
+    private final StatusProjectionService statusProjection; // projection writer
+    private final ObjectMapper objectMapper;                // JSON parsing
+
+    // Constructor injection
+    public StatusProjectionListener(StatusProjectionService statusProjection, ObjectMapper objectMapper) {
+        this.statusProjection = statusProjection;
+        this.objectMapper = objectMapper;
+    }
+
+    // Members events: registered/activated -> ACTIVE, suspended -> SUSPENDED
+    @RabbitListener(queues = RabbitMQConfig.MEMBER_STATUS_QUEUE)
+    public void onMemberEvent(Message message) {
+        String routingKey = routingKey(message);
+        String memberId = readText(message, "memberId");
+        if (memberId.isBlank()) return;
+
+        switch (routingKey) {
+            case RabbitMQConfig.ROUTING_MEMBER_REGISTERED, RabbitMQConfig.ROUTING_MEMBER_ACTIVATED ->
+                    statusProjection.record(Kind.MEMBER, memberId, "ACTIVE");
+            case RabbitMQConfig.ROUTING_MEMBER_SUSPENDED ->
+                    statusProjection.record(Kind.MEMBER, memberId, "SUSPENDED");
+            default -> {
+                return;
+            }
+        }
+        log.debug("Member status projected. routingKey={} memberId={}", routingKey, memberId);
+    }
+
+    // Trainers events carry no status (trainer.schedule_changed included): use it when present,
+    // otherwise forget and let REST refresh
+    @RabbitListener(queues = RabbitMQConfig.TRAINER_STATUS_QUEUE)
+    public void onTrainerEvent(Message message) {
+        String routingKey = routingKey(message);
+        String trainerId = readText(message, "trainerId");
+        if (trainerId.isBlank()) return;
+
+        if (RabbitMQConfig.ROUTING_TRAINER_DELETED.equals(routingKey)) {
+            statusProjection.record(Kind.TRAINER, trainerId, StatusProjection.DELETED);
+        } else {
+            String status = readText(message, "status");
+            if (status.isBlank()) {
+                statusProjection.forget(Kind.TRAINER, trainerId);
+            } else {
+                statusProjection.record(Kind.TRAINER, trainerId, status);
+            }
+        }
+        log.debug("Trainer status projected. routingKey={} trainerId={}", routingKey, trainerId);
+    }
+
+    private String routingKey(Message message) {
+        if (message == null || message.getMessageProperties() == null) return "";
+        String key = message.getMessageProperties().getReceivedRoutingKey();
+        return key == null ? "" : key;
+    }
+
+    private String readText(Message message, String key) {
+        if (message == null || message.getBody() == null) return "";
+        try {
+            JsonNode value = objectMapper.readTree(message.getBody()).get(key);
+            return value == null || value.isNull() ? "" : value.asText("");
+        } catch (Exception ex) {
+            log.error("Failed to read {} from status event", key, ex);
+            return "";
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.estg.workout.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Local copy of a member/trainer status, fed by the members and trainers exchanges
+@Entity
+@Table(
+        name = "status_projections",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"kind", "external_id"})
+)
+@Data
+@NoArgsConstructor
+public class StatusProjection {
+
+    // Status recorded when the owning service reports the id as deleted
+    public static final String DELETED = "DELETED";
+
+    // Which service owns the id
+    public enum Kind {
+        MEMBER,
+        TRAINER
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Kind kind;
+
+    // Member or trainer id in the owning service
+    @Column(name = "external_id", nullable = false)
+    private String externalId;
+
+    // ACTIVE / SUSPENDED / ... as reported by the owning service
+    @Column(nullable = false)
+    private String status;
+
+    // Last time the projection was written (event or REST fallback)
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public StatusProjection(Kind kind, String externalId, String status) {
+        this.kind = kind;
+        this.externalId = externalId;
+        this.status = status;
+        this.updatedAt = Instant.now();
+    }
+}
@@ -5,11 +5,15 @@ import org.estg.workout.dto.MemberSummary;
 import org.estg.workout.dto.TrainerSummary;
 import org.estg.workout.infrastructure.client.MembersClient;
 import org.estg.workout.infrastructure.client.TrainersClient;
+import org.estg.workout.model.StatusProjection;
+import org.estg.workout.model.StatusProjection.Kind;
 import org.springframework.stereotype.Service;
 
 /**
- * Validates memberId and trainerId using REST calls.
- * This matches the proposal: validate existence before creating plans.
+ * Validates memberId and trainerId before creating plans.
+ * Reads the local status projection first (fed by members/trainers events);
+ * REST calls are only a fallback for ids the projection has never seen, and for trainer
+ * statuses older than gymhub.validation.trainer-status-max-age.
  */
 @Service // Spring service bean
 public class ExternalValidationService {
@@ -17,14 +21,17 @@ public class ExternalValidationService {
     private final ExternalServicesProperties props; // config flag + URLs
     private final MembersClient membersClient;      // calls Members API
     private final TrainersClient trainersClient;    // calls Trainers API
+    private final StatusProjectionService statusProjection; // local status lookup
 
     // Constructor injection
     public ExternalValidationService(ExternalServicesProperties props,
                                      MembersClient membersClient,
-                                     TrainersClient trainersClient) {
+                                     TrainersClient trainersClient,
+                                     StatusProjectionService statusProjection) {
         this.props = props;
         this.membersClient = membersClient;
         this.trainersClient = trainersClient;
+        this.statusProjection = statusProjection;
     }
 
     /**
@@ -36,17 +43,26 @@ public class ExternalValidationService {
         // skip validation if disabled in YAML
         if (!props.getValidation().isEnabled()) return;
 
-        // call Members service
-        MemberSummary member = membersClient.getById(memberId);
+        // local projection first
+        String status = statusProjection.findStatus(Kind.MEMBER, memberId).orElse(null);
 
-        // member must exist
-        if (member == null) {
-            throw new IllegalArgumentException("Member not found: " + memberId);
+        if (status == null) {
+            // fallback: call Members service
+            MemberSummary member = membersClient.getById(memberId);
+
+            // member must exist
+            if (member == null) {
+                throw new IllegalArgumentException("Member not found: " + memberId);
+            }
+
+            // remember it so the next validation stays local
+            status = member.getStatus();
+            statusProjection.record(Kind.MEMBER, memberId, status);
         }
 
         // member must be ACTIVE
-        if (member.getStatus() == null || !"ACTIVE".equalsIgnoreCase(member.getStatus())) {
-            throw new IllegalArgumentException("Member is not ACTIVE: " + memberId + " status=" + member.getStatus());
+        if (status == null || !"ACTIVE".equalsIgnoreCase(status)) {
+            throw new IllegalArgumentException("Member is not ACTIVE: " + memberId + " status=" + status);
         }
     }
 
@@ -59,17 +75,32 @@ public class ExternalValidationService {
         // skip validation if disabled in YAML
         if (!props.getValidation().isEnabled()) return;
 
-        // call Trainers service
-        TrainerSummary trainer = trainersClient.getById(trainerId);
+        // local projection first; trainer rows age out, since only schedule changes are announced by event
+        String status = statusProjection.findStatus(Kind.TRAINER, trainerId,
+                props.getValidation().getTrainerStatusMaxAge()).orElse(null);
+
+        if (status == null) {
+            // fallback (unknown or stale): call Trainers service
+            TrainerSummary trainer = trainersClient.getById(trainerId);
+
+            // trainer must exist
+            if (trainer == null) {
+                throw new IllegalArgumentException("Trainer not found: " + trainerId);
+            }
+
+            // remember it so the next validation stays local
+            status = trainer.getStatus();
+            statusProjection.record(Kind.TRAINER, trainerId, status);
+        }
 
-        // trainer must exist
-        if (trainer == null) {
+        // trainer deleted in Trainers service (projected from trainer.trainer_deleted)
+        if (StatusProjection.DELETED.equalsIgnoreCase(status)) {
             throw new IllegalArgumentException("Trainer not found: " + trainerId);
         }
 
         // trainer must be ACTIVE
-        if (trainer.getStatus() == null || !"ACTIVE".equalsIgnoreCase(trainer.getStatus())) {
-            throw new IllegalArgumentException("Trainer is not ACTIVE: " + trainerId + " status=" + trainer.getStatus());
+        if (status == null || !"ACTIVE".equalsIgnoreCase(status)) {
+            throw new IllegalArgumentException("Trainer is not ACTIVE: " + trainerId + " status=" + status);
         }
     }
 }
@@ -0,0 +1,79 @@
+package org.estg.workout.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.estg.workout.data.StatusProjectionRepository;
+import org.estg.workout.model.StatusProjection;
+import org.estg.workout.model.StatusProjection.Kind;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads and writes the local member/trainer status projection.
+ * Written by the members/trainers event listener and by the REST fallback in ExternalValidationService.
+ */
+@Service
+public class StatusProjectionService {
+
+    private final StatusProjectionRepository repository; // projection table
+
+    // Constructor injection
+    public StatusProjectionService(StatusProjectionRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Status last seen for the id, empty if the projection never saw it.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findStatus(Kind kind, String externalId) {
+        if (externalId == null || externalId.isBlank()) return Optional.empty();
+
+        return repository.findByKindAndExternalId(kind, externalId)
+                .map(StatusProjection::getStatus);
+    }
+
+    /**
+     * Status last seen for the id, empty if never seen or last written more than {@code maxAge} ago.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findStatus(Kind kind, String externalId, Duration maxAge) {
+        if (externalId == null || externalId.isBlank()) return Optional.empty();
+
+        Instant oldest = Instant.now().minus(maxAge);
+        return repository.findByKindAndExternalId(kind, externalId)
+                .filter(p -> p.getUpdatedAt() != null && !p.getUpdatedAt().isBefore(oldest))
+                .map(StatusProjection::getStatus);
+    }
+
+    /**
+     * Insert or update the status for the id.
+     * Upsert in two statements instead of find-then-save, so two events for a new id racing each other
+     * cannot both insert and trip the (kind, external_id) constraint.
+     */
+    @Transactional
+    public void record(Kind kind, String externalId, String status) {
+        if (externalId == null || externalId.isBlank() || status == null || status.isBlank()) return;
+
+        // normalize so lookups compare the same way as the owning services
+        String normalized = status.trim().toUpperCase();
+        Instant now = Instant.now();
+
+        if (repository.insertIfAbsent(UUID.randomUUID(), kind.name(), externalId, normalized, now) == 0) {
+            repository.updateStatus(kind, externalId, normalized, now);
+        }
+    }
+
+    /**
+     * Forget the id so the next validation re-reads it via REST.
+     */
+    @Transactional
+    public void forget(Kind kind, String externalId) {
+        if (externalId == null || externalId.isBlank()) return;
+
+        repository.deleteByKindAndExternalId(kind, externalId);
+    }
+}
@@ -0,0 +1,106 @@
+package org.estg.workout.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.estg.workout.config.ExternalServicesProperties;
+import org.estg.workout.dto.MemberSummary;
+import org.estg.workout.dto.TrainerSummary;
+import org.estg.workout.infrastructure.client.MembersClient;
+import org.estg.workout.infrastructure.client.TrainersClient;
+import org.estg.workout.model.StatusProjection;
+import org.estg.workout.model.StatusProjection.Kind;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalValidationServiceTest {
+
+    @Mock
+    private MembersClient membersClient;
+
+    @Mock
+    private TrainersClient trainersClient;
+
+    @Mock
+    private StatusProjectionService statusProjection;
+
+    private ExternalValidationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExternalValidationService(
+                new ExternalServicesProperties(), membersClient, trainersClient, statusProjection);
+    }
+
+    @Test
+    void validateMemberActive_usesProjectionWithoutRestCall() {
+        when(statusProjection.findStatus(Kind.MEMBER, "member-1")).thenReturn(Optional.of("ACTIVE"));
+
+        assertDoesNotThrow(() -> service.validateMemberActive("member-1"));
+
+        verifyNoInteractions(membersClient);
+    }
+
+    @Test
+    void validateMemberActive_fallsBackToRestAndRecordsStatus() {
+        MemberSummary member = new MemberSummary();
+        member.setId("member-2");
+        member.setStatus("ACTIVE");
+        when(statusProjection.findStatus(Kind.MEMBER, "member-2")).thenReturn(Optional.empty());
+        when(membersClient.getById("member-2")).thenReturn(member);
+
+        service.validateMemberActive("member-2");
+
+        verify(statusProjection).record(Kind.MEMBER, "member-2", "ACTIVE");
+    }
+
+    @Test
+    void validateMemberActive_rejectsSuspendedProjection() {
+        when(statusProjection.findStatus(Kind.MEMBER, "member-3")).thenReturn(Optional.of("SUSPENDED"));
+
+        assertThrows(IllegalArgumentException.class, () -> service.validateMemberActive("member-3"));
+        verifyNoInteractions(membersClient);
+    }
+
+    @Test
+    void validateTrainerActive_rejectsDeletedTrainer() {
+        when(statusProjection.findStatus(eq(Kind.TRAINER), eq("trainer-1"), any(Duration.class)))
+                .thenReturn(Optional.of(StatusProjection.DELETED));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.validateTrainerActive("trainer-1"));
+
+        assertTrue(ex.getMessage().startsWith("Trainer not found"));
+        verify(trainersClient, never()).getById(anyString());
+    }
+
+    @Test
+    void validateTrainerActive_refetchesStaleProjectionOverRest() {
+        TrainerSummary trainer = new TrainerSummary();
+        trainer.setId("trainer-2");
+        trainer.setStatus("ON_LEAVE");
+        // the projection answers empty for a row older than the configured max age
+        when(statusProjection.findStatus(Kind.TRAINER, "trainer-2", Duration.ofMinutes(5)))
+                .thenReturn(Optional.empty());
+        when(trainersClient.getById("trainer-2")).thenReturn(trainer);
+
+        assertThrows(IllegalArgumentException.class, () -> service.validateTrainerActive("trainer-2"));
+
+        verify(statusProjection).record(Kind.TRAINER, "trainer-2", "ON_LEAVE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.out.println("\n? ? TESTE PASSOU COM SUCESSO ? ?\n");
+    }
+}
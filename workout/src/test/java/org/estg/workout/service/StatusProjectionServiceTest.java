@@ -0,0 +1,55 @@
+package org.estg.workout.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import org.estg.workout.config.TestWorkoutEventPublisherConfig;
+import org.estg.workout.data.StatusProjectionRepository;
+import org.estg.workout.model.StatusProjection.Kind;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestWorkoutEventPublisherConfig.class)
+class StatusProjectionServiceTest {
+
+    @Autowired
+    private StatusProjectionService statusProjection;
+
+    @Autowired
+    private StatusProjectionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void record_insertsOnce_thenUpdatesInPlace() {
+        statusProjection.record(Kind.MEMBER, "member-1", "active");
+        statusProjection.record(Kind.MEMBER, "member-1", "SUSPENDED");
+        statusProjection.record(Kind.TRAINER, "member-1", "ACTIVE");
+
+        assertEquals(2, repository.count());
+        assertEquals(Optional.of("SUSPENDED"), statusProjection.findStatus(Kind.MEMBER, "member-1"));
+        assertEquals(Optional.of("ACTIVE"), statusProjection.findStatus(Kind.TRAINER, "member-1"));
+    }
+
+    @Test
+    void findStatus_withMaxAge_ignoresStaleRows() {
+        statusProjection.record(Kind.TRAINER, "trainer-1", "ACTIVE");
+
+        assertEquals(Optional.of("ACTIVE"),
+                statusProjection.findStatus(Kind.TRAINER, "trainer-1", Duration.ofMinutes(5)));
+        assertEquals(Optional.empty(),
+                statusProjection.findStatus(Kind.TRAINER, "trainer-1", Duration.ofMillis(-1)));
+    }
+}